@@ -0,0 +1,148 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.watabou.gltextures;
+
+import com.badlogic.gdx.graphics.Pixmap;
+
+//A texture which is drawn from an area of a larger shared page texture.
+//Packing many small textures into one page means that drawing them in sequence needs no texture binds
+public class PackedTexture extends SmartTexture {
+
+	private Page page;
+
+	public PackedTexture( Pixmap bitmap, Page page, int x, int y ) {
+		super( bitmap );
+
+		this.page = page;
+		uvLeft = x / (float)page.width;
+		uvTop = y / (float)page.height;
+		uvWidth = width / (float)page.width;
+		uvHeight = height / (float)page.height;
+	}
+
+	public boolean isPacked(){
+		return page != null;
+	}
+
+	//moves this texture into its own GL texture, used when it needs properties that the page can't have
+	private void unpack(){
+		if (page != null) {
+			page = null;
+			uvLeft = uvTop = 0;
+			uvWidth = uvHeight = 1;
+		}
+	}
+
+	@Override
+	public void bind() {
+		if (page == null) {
+			super.bind();
+		} else {
+			page.bind();
+			bound = this;
+		}
+	}
+
+	@Override
+	public void filter( int minMode, int maxMode ) {
+		if (minMode != NEAREST || maxMode != NEAREST) {
+			unpack();
+		}
+		super.filter( minMode, maxMode );
+	}
+
+	@Override
+	public void wrap( int s, int t ) {
+		if (s != CLAMP || t != CLAMP) {
+			unpack();
+		}
+		super.wrap( s, t );
+	}
+
+	@Override
+	public void bitmap( Pixmap bitmap ) {
+		unpack();
+		super.bitmap( bitmap );
+	}
+
+	@Override
+	public void reload() {
+		if (page == null) {
+			super.reload();
+		}
+	}
+
+	//packed textures have no GPU memory of their own, their page is unloaded instead
+	@Override
+	public void unload() {
+		if (page == null) {
+			super.unload();
+		}
+	}
+
+	@Override
+	public void delete() {
+		if (page == null) {
+			super.delete();
+		} else {
+			if (bound == this) bound = null;
+			if (bitmap != null)
+				bitmap.dispose();
+			bitmap = null;
+		}
+	}
+
+	public static class Page extends SmartTexture {
+
+		//pixels may be added to the page from any thread, but can only be uploaded from the render thread
+		private volatile boolean dirty = false;
+
+		public Page( Pixmap bitmap ) {
+			super( bitmap );
+		}
+
+		public void markDirty(){
+			dirty = true;
+		}
+
+		@Override
+		protected void generate() {
+			synchronized (TextureCache.class) {
+				dirty = false;
+				super.generate();
+			}
+		}
+
+		@Override
+		public void bind() {
+			super.bind();
+			if (dirty) {
+				synchronized (TextureCache.class) {
+					dirty = false;
+					super.bitmap( bitmap );
+				}
+			}
+		}
+	}
+
+}
@@ -23,6 +23,7 @@ package com.watabou.gltextures;
 
 import com.badlogic.gdx.graphics.Pixmap;
 import com.watabou.glwrap.Texture;
+import com.watabou.noosa.Game;
 import com.watabou.utils.RectF;
 
 public class SmartTexture extends Texture {
@@ -40,6 +41,12 @@ public class SmartTexture extends Texture {
 	
 	public Atlas atlas;
 
+	//time this texture was last bound, used to find textures which can be unloaded
+	public long lastBound = 0;
+
+	//if set, the bitmap can be freed while this texture is unloaded, and is read from this file when needed
+	String reloadFile = null;
+
 	public SmartTexture( Pixmap bitmap ) {
 		this( bitmap, NEAREST, CLAMP, false );
 	}
@@ -55,8 +62,15 @@ public class SmartTexture extends Texture {
 
 	}
 
+	@Override
+	public void bind() {
+		lastBound = Game.realTime;
+		super.bind();
+	}
+
 	@Override
 	protected void generate() {
+		restoreBitmap();
 		super.generate();
 		bitmap( bitmap );
 		filter( fModeMin, fModeMax );
@@ -89,6 +103,7 @@ public class SmartTexture extends Texture {
 	}
 	
 	public int getPixel( int x, int y ){
+		restoreBitmap();
 		int color = bitmap.getPixel(x, y);
 		// convert from libGdx RGBA to Noosa ARGB
 		return ( (color << 24) | (color >>> 8) );
@@ -98,6 +113,27 @@ public class SmartTexture extends Texture {
 		id = -1;
 		generate();
 	}
+
+	//frees this texture's GPU memory, and its bitmap if that can be reloaded.
+	//The texture is restored automatically the next time it is used
+	public void unload() {
+		if (id != -1) {
+			super.delete();
+			id = -1;
+		}
+		if (reloadFile != null && bitmap != null) {
+			bitmap.dispose();
+			bitmap = null;
+		}
+	}
+
+	void restoreBitmap() {
+		synchronized (TextureCache.class) {
+			if (bitmap == null && reloadFile != null) {
+				bitmap = TextureCache.getBitmap( reloadFile );
+			}
+		}
+	}
 	
 	@Override
 	public void delete() {
@@ -23,15 +23,49 @@ package com.watabou.gltextures;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.math.Rectangle;
 import com.watabou.glwrap.Texture;
 import com.watabou.noosa.Game;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 
 public class TextureCache {
 	
 	private static HashMap<Object,SmartTexture> all = new HashMap<>();
 
+	//small textures loaded from these paths are packed together into shared pages, see PackedTexture
+	private static String[] packedPaths = new String[0];
+
+	private static final int PAGE_SIZE = 1024;
+	private static final int MAX_PACKED_SIZE = 256;
+
+	private static PixmapPacker packer;
+	private static ArrayList<PackedTexture.Page> pages = new ArrayList<>();
+	private static int packedCount = 0;
+
+	public synchronized static void packedPaths( String... paths ){
+		packedPaths = paths;
+	}
+
+	//once textures use more memory than this, the least recently used ones are unloaded
+	private static long budget = 64*1024*1024;
+
+	//how often the budget is checked, and how long a texture must be unused before it can be unloaded
+	private static final long TRIM_INTERVAL = 1000;
+	private static long lastTrim = 0;
+
+	private static int hits = 0;
+	private static int misses = 0;
+
+	public synchronized static void budget( long bytes ){
+		budget = bytes;
+	}
+
 	public synchronized static SmartTexture createSolid( int color ) {
 		final String key = "1x1:" + color;
 		
@@ -55,7 +89,7 @@ public class TextureCache {
 	
 	public synchronized static SmartTexture createGradient( int... colors ) {
 		
-		final String key = "" + colors;
+		final String key = Arrays.toString( colors );
 		
 		if (all.containsKey( key )) {
 			
@@ -111,8 +145,12 @@ public class TextureCache {
 	public synchronized static SmartTexture get( Object src ) {
 		
 		if (all.containsKey( src )) {
-			
-			return all.get( src );
+
+			hits++;
+			SmartTexture tx = all.get( src );
+			//callers may read the bitmap directly, so restore it if it was unloaded
+			tx.restoreBitmap();
+			return tx;
 			
 		} else if (src instanceof SmartTexture) {
 			
@@ -120,12 +158,55 @@ public class TextureCache {
 			
 		} else {
 
-			SmartTexture tx = new SmartTexture( getBitmap( src ) );
+			misses++;
+			Pixmap bitmap = getBitmap( src );
+			SmartTexture tx;
+			if (bitmap != null && shouldPack( src, bitmap )){
+				tx = pack( bitmap );
+			} else {
+				tx = new SmartTexture( bitmap );
+				if (src instanceof String){
+					tx.reloadFile = (String)src;
+				}
+			}
 			all.put( src, tx );
 			return tx;
 		}
 		
 	}
+
+	private static boolean shouldPack( Object src, Pixmap bitmap ){
+		if (!(src instanceof String)
+				|| bitmap.getWidth() > MAX_PACKED_SIZE
+				|| bitmap.getHeight() > MAX_PACKED_SIZE){
+			return false;
+		}
+		for (String path : packedPaths){
+			if (((String) src).startsWith(path)){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static SmartTexture pack( Pixmap bitmap ){
+		if (packer == null){
+			//padding with duplicated borders stops neighbouring textures from bleeding into each other
+			packer = new PixmapPacker( PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, true );
+		}
+
+		//names must be unique, as a texture may be removed from the cache and later packed again
+		String name = Integer.toString( packedCount++ );
+		Rectangle rect = packer.pack( name, bitmap );
+		int index = packer.getPageIndex( name );
+		while (pages.size() <= index){
+			pages.add( new PackedTexture.Page( packer.getPages().get( pages.size() ).getPixmap() ) );
+		}
+
+		PackedTexture.Page page = pages.get( index );
+		page.markDirty();
+		return new PackedTexture( bitmap, page, (int)rect.x, (int)rect.y );
+	}
 	
 	public synchronized static void clear() {
 		
@@ -133,6 +214,13 @@ public class TextureCache {
 			txt.delete();
 		}
 		all.clear();
+
+		//page pixmaps are disposed by the pages themselves, so the packer is just dropped
+		for (Texture page : pages) {
+			page.delete();
+		}
+		pages.clear();
+		packer = null;
 		
 	}
 	
@@ -140,8 +228,77 @@ public class TextureCache {
 		for (SmartTexture tx : all.values()) {
 			tx.reload();
 		}
+		for (SmartTexture page : pages) {
+			page.reload();
+		}
 	}
 	
+	//unloads the least recently used textures while over the memory budget. Unloaded textures
+	// are uploaded again when next bound, see SmartTexture.unload
+	public synchronized static void update() {
+		if (Game.realTime - lastTrim < TRIM_INTERVAL) {
+			return;
+		}
+		lastTrim = Game.realTime;
+
+		long used = usedBytes();
+		if (used <= budget) {
+			return;
+		}
+
+		ArrayList<SmartTexture> unused = new ArrayList<>();
+		for (SmartTexture tx : all.values()) {
+			if (Game.realTime - tx.lastBound > TRIM_INTERVAL) {
+				unused.add( tx );
+			}
+		}
+		for (SmartTexture page : pages) {
+			if (Game.realTime - page.lastBound > TRIM_INTERVAL) {
+				unused.add( page );
+			}
+		}
+		Collections.sort( unused, new Comparator<SmartTexture>() {
+			@Override
+			public int compare( SmartTexture a, SmartTexture b ) {
+				return Long.compare( a.lastBound, b.lastBound );
+			}
+		} );
+
+		for (SmartTexture tx : unused) {
+			if (used <= budget) {
+				break;
+			}
+			used -= bytes( tx );
+			tx.unload();
+			used += bytes( tx );
+		}
+	}
+
+	//memory used by texture data, both on the GPU and in bitmaps
+	public synchronized static long usedBytes() {
+		long total = 0;
+		for (SmartTexture tx : all.values()) {
+			total += bytes( tx );
+		}
+		for (SmartTexture page : pages) {
+			total += bytes( page );
+		}
+		return total;
+	}
+
+	private static long bytes( SmartTexture tx ) {
+		long size = 4L * tx.width * tx.height;
+		return (tx.id != -1 ? size : 0) + (tx.bitmap != null ? size : 0);
+	}
+
+	public synchronized static int hits() {
+		return hits;
+	}
+
+	public synchronized static int misses() {
+		return misses;
+	}
+
 	public static Pixmap getBitmap( Object src ) {
 		
 		try {
@@ -23,6 +23,7 @@ package com.watabou.glwrap;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Pixmap;
+import com.watabou.utils.Profiler;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
@@ -40,6 +41,14 @@ public class Texture {
 	
 	public int id = -1;
 	private static int bound_id = 0; //id of the currently bound texture
+	protected static Texture bound = null; //texture which was last bound, may share its id with others
+	
+	//the area of the GL texture which this texture's UV coordinates map to.
+	//This only differs from the full texture when it shares a GL texture with others
+	public float uvLeft = 0;
+	public float uvTop = 0;
+	public float uvWidth = 1;
+	public float uvHeight = 1;
 	
 	public boolean premultiplied = false;
 
@@ -58,11 +67,18 @@ public class Texture {
 		if (id != bound_id) {
 			Gdx.gl.glBindTexture( Gdx.gl.GL_TEXTURE_2D, id );
 			bound_id = id;
+			Profiler.count( Profiler.TEXTURE_BINDS );
 		}
+		bound = this;
+	}
+	
+	public static Texture bound(){
+		return bound;
 	}
 	
 	public static void clear(){
 		bound_id = 0;
+		bound = null;
 	}
 	
 	public void filter( int minMode, int maxMode ) {
@@ -79,6 +95,7 @@ public class Texture {
 	
 	public void delete() {
 		if (bound_id == id) bound_id = 0;
+		if (bound == this) bound = null;
 		Gdx.gl.glDeleteTexture( id );
 	}
 	
@@ -22,6 +22,7 @@
 package com.watabou.glwrap;
 
 import com.badlogic.gdx.Gdx;
+import com.watabou.utils.Profiler;
 
 import java.nio.Buffer;
 import java.nio.FloatBuffer;
@@ -77,6 +78,7 @@ public class Vertexbuffer {
 
 		((Buffer)vertices).position(updateStart);
 		bind();
+		Profiler.count( Profiler.VERTEX_UPLOADS );
 
 		if (updateStart == 0 && updateEnd == vertices.limit()){
 			Gdx.gl.glBufferData(Gdx.gl.GL_ARRAY_BUFFER, vertices.limit()*4, vertices, Gdx.gl.GL_DYNAMIC_DRAW);
@@ -38,7 +38,10 @@ import com.watabou.noosa.audio.Music;
 import com.watabou.noosa.audio.Sample;
 import com.watabou.utils.Callback;
 import com.watabou.utils.DeviceCompat;
+import com.watabou.utils.FileUtils;
+import com.watabou.utils.GameSettings;
 import com.watabou.utils.PlatformSupport;
+import com.watabou.utils.Profiler;
 import com.watabou.utils.Reflection;
 
 import java.io.PrintWriter;
@@ -167,16 +170,42 @@ public class Game implements ApplicationListener {
 			if (DeviceCompat.isAndroid()) return;
 		}
 
+		Profiler.nextFrame();
+
 		NoosaScript.get().resetCamera();
 		NoosaScriptNoLighting.get().resetCamera();
 		Gdx.gl.glDisable(Gdx.gl.GL_SCISSOR_TEST);
 		Gdx.gl.glClear(Gdx.gl.GL_COLOR_BUFFER_BIT);
+		long start = Profiler.begin();
 		draw();
+		Profiler.end("Game.draw", start);
+
+		if (profilerOverlay != null){
+			profilerOverlay.update();
+			profilerOverlay.draw();
+		}
 
 		Gdx.gl.glDisable( Gdx.gl.GL_SCISSOR_TEST );
 		
 		step();
 	}
+
+	private static ProfilerOverlay profilerOverlay;
+
+	//enables profiling, and shows its results over the game. Must be called from the render thread
+	public static void showProfiler( boolean show ){
+		Profiler.enable( show );
+		if (show && profilerOverlay == null){
+			profilerOverlay = new ProfilerOverlay();
+		} else if (!show && profilerOverlay != null){
+			profilerOverlay.destroy();
+			profilerOverlay = null;
+		}
+	}
+
+	public static boolean profilerShown(){
+		return profilerOverlay != null;
+	}
 	
 	@Override
 	public void pause() {
@@ -187,6 +216,10 @@ public class Game implements ApplicationListener {
 		}
 		
 		Script.reset();
+
+		GameSettings.flush();
+		FileUtils.finishWrites();
+		platform.saveFontCache();
 	}
 	
 	@Override
@@ -208,6 +241,9 @@ public class Game implements ApplicationListener {
 		sceneClass = null;
 		Music.INSTANCE.stop();
 		Sample.INSTANCE.reset();
+
+		GameSettings.flush();
+		FileUtils.finishWrites();
 	}
 	
 	@Override
@@ -286,7 +322,11 @@ public class Game implements ApplicationListener {
 
 		Music.INSTANCE.update();
 		Sample.INSTANCE.update();
+		GameSettings.update();
+		TextureCache.update();
+		long start = Profiler.begin();
 		scene.update();
+		Profiler.end("Scene.update", start);
 		Camera.updateAll();
 	}
 	
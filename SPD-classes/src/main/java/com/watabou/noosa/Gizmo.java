@@ -78,6 +78,12 @@ public class Gizmo {
 		}
 	}
 	
+	// true if this gizmo may overlap its camera's bounds, expanded by margin on each side
+	// gizmos which don't have a position can't be culled, so are always considered on screen
+	public boolean onScreen( float margin ) {
+		return true;
+	}
+	
 	public boolean isActive() {
 		if (parent == null) {
 			return active;
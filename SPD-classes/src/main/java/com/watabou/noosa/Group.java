@@ -36,6 +36,13 @@ public class Group extends Gizmo {
 	// than calling members.getSize()
 	public int length;
 	
+	// When culling is enabled, members which are entirely outside of the camera's view
+	// are skipped when drawing, and optionally when updating as well.
+	// The margin accounts for content which extends past a member's bounds, e.g. particles
+	private boolean cullDraw = false;
+	private boolean cullUpdate = false;
+	private float cullMargin = 0;
+	
 	public Group() {
 		members = new ArrayList<>();
 		length = 0;
@@ -62,7 +69,8 @@ public class Group extends Gizmo {
 	public synchronized void update() {
 		for (int i=0; i < length; i++) {
 			Gizmo g = members.get( i );
-			if (g != null && g.exists && g.active) {
+			if (g != null && g.exists && g.active
+					&& (!cullUpdate || g.onScreen( cullMargin ))) {
 				g.update();
 			}
 		}
@@ -72,12 +80,21 @@ public class Group extends Gizmo {
 	public synchronized void draw() {
 		for (int i=0; i < length; i++) {
 			Gizmo g = members.get( i );
-			if (g != null && g.exists && g.isVisible()) {
+			if (g != null && g.exists && g.isVisible()
+					&& (!cullDraw || g.onScreen( cullMargin ))) {
 				g.draw();
 			}
 		}
 	}
 	
+	// only use update culling for members whose updates are purely visual,
+	// as an off-screen member is effectively paused until it comes back into view
+	public void culling( boolean draw, boolean update, float margin ) {
+		cullDraw = draw;
+		cullUpdate = update;
+		cullMargin = margin;
+	}
+	
 	@Override
 	public synchronized void kill() {
 		// A killed group keeps all its members,
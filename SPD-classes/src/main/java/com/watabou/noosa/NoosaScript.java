@@ -25,8 +25,10 @@ import com.badlogic.gdx.Gdx;
 import com.watabou.glscripts.Script;
 import com.watabou.glwrap.Attribute;
 import com.watabou.glwrap.Quad;
+import com.watabou.glwrap.Texture;
 import com.watabou.glwrap.Uniform;
 import com.watabou.glwrap.Vertexbuffer;
+import com.watabou.utils.Profiler;
 
 import java.nio.Buffer;
 import java.nio.FloatBuffer;
@@ -39,11 +41,18 @@ public class NoosaScript extends Script {
 	public Uniform uTex;
 	public Uniform uColorM;
 	public Uniform uColorA;
+	public Uniform uUVRect;
 	public Attribute aXY;
 	public Attribute aUV;
 	
 	private Camera lastCamera;
 	
+	//uniforms start at 0, so these ensure the UV rect is set before the first draw
+	private float lastUVLeft = 0;
+	private float lastUVTop = 0;
+	private float lastUVWidth = 0;
+	private float lastUVHeight = 0;
+	
 	public NoosaScript() {
 
 		super();
@@ -54,6 +63,7 @@ public class NoosaScript extends Script {
 		uTex	= uniform( "uTex" );
 		uColorM	= uniform( "uColorM" );
 		uColorA	= uniform( "uColorA" );
+		uUVRect	= uniform( "uUVRect" );
 		aXY		= attribute( "aXYZW" );
 		aUV		= attribute( "aUV" );
 
@@ -71,9 +81,30 @@ public class NoosaScript extends Script {
 		aUV.enable();
 		
 	}
+	
+	//maps UVs into the area of the bound texture that is actually being used, see Texture.uvLeft
+	private void updateUVRect(){
+		Texture tex = Texture.bound();
+		float left = 0, top = 0, width = 1, height = 1;
+		if (tex != null){
+			left = tex.uvLeft;
+			top = tex.uvTop;
+			width = tex.uvWidth;
+			height = tex.uvHeight;
+		}
+		if (left != lastUVLeft || top != lastUVTop || width != lastUVWidth || height != lastUVHeight){
+			lastUVLeft = left;
+			lastUVTop = top;
+			lastUVWidth = width;
+			lastUVHeight = height;
+			uUVRect.value4f( left, top, width, height );
+		}
+	}
 
 	public void drawElements( FloatBuffer vertices, ShortBuffer indices, int size ) {
 
+		updateUVRect();
+
 		((Buffer)vertices).position( 0 );
 		aXY.vertexPointer( 2, 4, vertices );
 
@@ -81,23 +112,29 @@ public class NoosaScript extends Script {
 		aUV.vertexPointer( 2, 4, vertices );
 
 		Quad.releaseIndices();
+		Profiler.count( Profiler.DRAW_CALLS );
 		Gdx.gl20.glDrawElements( Gdx.gl20.GL_TRIANGLES, size, Gdx.gl20.GL_UNSIGNED_SHORT, indices );
 		Quad.bindIndices();
 	}
 
 	public void drawQuad( FloatBuffer vertices ) {
 
+		updateUVRect();
+
 		((Buffer)vertices).position( 0 );
 		aXY.vertexPointer( 2, 4, vertices );
 
 		((Buffer)vertices).position( 2 );
 		aUV.vertexPointer( 2, 4, vertices );
 		
+		Profiler.count( Profiler.DRAW_CALLS );
 		Gdx.gl20.glDrawElements( Gdx.gl20.GL_TRIANGLES, Quad.SIZE, Gdx.gl20.GL_UNSIGNED_SHORT, 0 );
 	}
 
 	public void drawQuad( Vertexbuffer buffer ) {
 
+		updateUVRect();
+
 		buffer.updateGLData();
 
 		buffer.bind();
@@ -107,6 +144,7 @@ public class NoosaScript extends Script {
 
 		buffer.release();
 		
+		Profiler.count( Profiler.DRAW_CALLS );
 		Gdx.gl20.glDrawElements( Gdx.gl20.GL_TRIANGLES, Quad.SIZE, Gdx.gl20.GL_UNSIGNED_SHORT, 0 );
 	}
 	
@@ -116,12 +154,15 @@ public class NoosaScript extends Script {
 			return;
 		}
 
+		updateUVRect();
+
 		((Buffer)vertices).position( 0 );
 		aXY.vertexPointer( 2, 4, vertices );
 
 		((Buffer)vertices).position( 2 );
 		aUV.vertexPointer( 2, 4, vertices );
 		
+		Profiler.count( Profiler.DRAW_CALLS );
 		Gdx.gl20.glDrawElements( Gdx.gl20.GL_TRIANGLES, Quad.SIZE * size, Gdx.gl20.GL_UNSIGNED_SHORT, 0 );
 	}
 
@@ -131,6 +172,8 @@ public class NoosaScript extends Script {
 			return;
 		}
 
+		updateUVRect();
+
 		buffer.updateGLData();
 
 		buffer.bind();
@@ -140,6 +183,7 @@ public class NoosaScript extends Script {
 
 		buffer.release();
 		
+		Profiler.count( Profiler.DRAW_CALLS );
 		Gdx.gl20.glDrawElements( Gdx.gl20.GL_TRIANGLES, Quad.SIZE * length, Gdx.gl20.GL_UNSIGNED_SHORT, Quad.SIZE * Short.SIZE/8 * offset );
 	}
 	
@@ -194,12 +238,13 @@ public class NoosaScript extends Script {
 		//vertex shader
 		"uniform mat4 uCamera;\n" +
 		"uniform mat4 uModel;\n" +
+		"uniform vec4 uUVRect;\n" +
 		"attribute vec4 aXYZW;\n" +
 		"attribute vec2 aUV;\n" +
 		"varying vec2 vUV;\n" +
 		"void main() {\n" +
 		"  gl_Position = uCamera * uModel * aXYZW;\n" +
-		"  vUV = aUV;\n" +
+		"  vUV = uUVRect.xy + aUV * uUVRect.zw;\n" +
 		"}\n" +
 		
 		//this symbol separates the vertex and fragment shaders (see Script.compile)
@@ -210,7 +255,12 @@ public class NoosaScript extends Script {
 		"#ifdef GL_ES\n" +
 		"  precision mediump float;\n" +
 		"#endif\n" +
-		"varying vec2 vUV;\n" +
+		//texture pages can be large, so UVs get extra precision where it is available
+		"#if defined(GL_ES) && defined(GL_FRAGMENT_PRECISION_HIGH)\n" +
+		"  varying highp vec2 vUV;\n" +
+		"#else\n" +
+		"  varying vec2 vUV;\n" +
+		"#endif\n" +
 		"uniform sampler2D uTex;\n" +
 		"uniform vec4 uColorM;\n" +
 		"uniform vec4 uColorA;\n" +
@@ -49,12 +49,13 @@ public class NoosaScriptNoLighting extends NoosaScript {
 		//vertex shader
 		"uniform mat4 uCamera;\n" +
 		"uniform mat4 uModel;\n" +
+		"uniform vec4 uUVRect;\n" +
 		"attribute vec4 aXYZW;\n" +
 		"attribute vec2 aUV;\n" +
 		"varying vec2 vUV;\n" +
 		"void main() {\n" +
 		"  gl_Position = uCamera * uModel * aXYZW;\n" +
-		"  vUV = aUV;\n" +
+		"  vUV = uUVRect.xy + aUV * uUVRect.zw;\n" +
 		"}\n" +
 		
 		//this symbol separates the vertex and fragment shaders (see Script.compile)
@@ -65,7 +66,12 @@ public class NoosaScriptNoLighting extends NoosaScript {
 		"#ifdef GL_ES\n" +
 		"  precision mediump float;\n" +
 		"#endif\n" +
-		"varying vec2 vUV;\n" +
+		//texture pages can be large, so UVs get extra precision where it is available
+		"#if defined(GL_ES) && defined(GL_FRAGMENT_PRECISION_HIGH)\n" +
+		"  varying highp vec2 vUV;\n" +
+		"#else\n" +
+		"  varying vec2 vUV;\n" +
+		"#endif\n" +
 		"uniform sampler2D uTex;\n" +
 		"void main() {\n" +
 		"  gl_FragColor = texture2D( uTex, vUV );\n" +
@@ -0,0 +1,172 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.watabou.noosa;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.watabou.gltextures.SmartTexture;
+import com.watabou.gltextures.TextureCache;
+import com.watabou.glwrap.Texture;
+import com.watabou.utils.Profiler;
+
+import java.util.ArrayList;
+
+//Shows a graph of recent frame times and a summary of profiling results over the current scene
+public class ProfilerOverlay extends Group {
+
+	private static final Object CACHE_KEY = ProfilerOverlay.class;
+
+	private static final int GRAPH_HEIGHT = 50;
+	//frame time in ms which reaches the top of the graph
+	private static final float GRAPH_MAX = 50f;
+
+	//frames are compared to these times, in ms, to color the graph
+	private static final float GOOD_FRAME = 1000f / 60f;
+	private static final float OK_FRAME = 1000f / 30f;
+
+	//summaries are averaged over this many frames, and updated after this many seconds
+	private static final int SUMMARY_FRAMES = 60;
+	private static final float SUMMARY_DELAY = 0.5f;
+
+	private SmartTexture graphTexture;
+	private Image graph;
+	private RenderedText summary;
+
+	private float summaryDelay = 0;
+	private int cameraWidth = -1;
+	private int cameraHeight = -1;
+
+	public ProfilerOverlay() {
+		super();
+
+		graph = new Image();
+		add( graph );
+
+		summary = new RenderedText( 6 );
+		add( summary );
+	}
+
+	@Override
+	public void update() {
+		super.update();
+
+		if (Game.width != cameraWidth || Game.height != cameraHeight){
+			cameraWidth = Game.width;
+			cameraHeight = Game.height;
+			camera = Camera.createFullscreen( Math.max( 1, Math.round( Game.density * 2 ) ) );
+			graph.camera = summary.camera = camera;
+		}
+		camera.update();
+
+		updateGraph();
+
+		if ((summaryDelay -= Game.elapsed) <= 0){
+			summaryDelay = SUMMARY_DELAY;
+			updateSummary();
+		}
+
+		graph.x = 0;
+		graph.y = camera.height - graph.height();
+		summary.x = 1;
+		summary.y = graph.y - summary.height() - 1;
+	}
+
+	private void updateGraph(){
+		//the texture cache may have been cleared since the last update
+		if (graphTexture == null || !TextureCache.contains( CACHE_KEY )){
+			graphTexture = TextureCache.create( CACHE_KEY, Profiler.FRAMES, GRAPH_HEIGHT );
+			graphTexture.filter( Texture.NEAREST, Texture.NEAREST );
+			graph.texture( graphTexture );
+		}
+
+		Pixmap pixmap = graphTexture.bitmap;
+		pixmap.setColor( 0x00000080 );
+		pixmap.fill();
+
+		int frames = Profiler.recordedFrames();
+		for (int i = 0; i < frames; i++){
+			float ms = Profiler.frameTime( i ) / 1_000_000f;
+			if (ms <= GOOD_FRAME)   pixmap.setColor( 0x44FF44FF );
+			else if (ms <= OK_FRAME) pixmap.setColor( 0xFFFF44FF );
+			else                    pixmap.setColor( 0xFF4444FF );
+
+			int height = Math.min( GRAPH_HEIGHT, Math.round( GRAPH_HEIGHT * ms / GRAPH_MAX ) );
+			//newest frames are on the right
+			pixmap.drawLine( Profiler.FRAMES - 1 - i, GRAPH_HEIGHT - 1, Profiler.FRAMES - 1 - i, GRAPH_HEIGHT - height );
+		}
+
+		pixmap.setColor( 0xFFFFFF80 );
+		int line = GRAPH_HEIGHT - Math.round( GRAPH_HEIGHT * GOOD_FRAME / GRAPH_MAX );
+		pixmap.drawLine( 0, line, Profiler.FRAMES - 1, line );
+
+		graphTexture.bitmap( pixmap );
+	}
+
+	private void updateSummary(){
+		int frames = Math.min( SUMMARY_FRAMES, Profiler.recordedFrames() );
+		if (frames == 0){
+			return;
+		}
+
+		long frameTime = 0;
+		int draws = 0, binds = 0, uploads = 0, steps = 0;
+		for (int i = 0; i < frames; i++){
+			frameTime += Profiler.frameTime( i );
+			draws += Profiler.counter( Profiler.DRAW_CALLS, i );
+			binds += Profiler.counter( Profiler.TEXTURE_BINDS, i );
+			uploads += Profiler.counter( Profiler.VERTEX_UPLOADS, i );
+			steps += Profiler.counter( Profiler.LOGIC_STEPS, i );
+		}
+
+		StringBuilder text = new StringBuilder();
+		text.append( format( frameTime / frames ) ).append( "ms" );
+		text.append( "  draws:" ).append( draws / frames );
+		text.append( "  binds:" ).append( binds / frames );
+		text.append( "  uploads:" ).append( uploads / frames );
+		//per second rather than per frame, so it can be compared across refresh rates
+		text.append( "  steps/s:" ).append( Math.round( steps * 1_000_000_000d / frameTime ) );
+		text.append( "  heap:" ).append( Profiler.heapUsed( 0 ) / (1024*1024) ).append( "MB" );
+
+		ArrayList<String> scopes = Profiler.scopes();
+		for (String scope : scopes){
+			long time = 0;
+			for (int i = 0; i < frames; i++){
+				time += Profiler.scopeTime( scope, i );
+			}
+			text.append( '\n' ).append( scope ).append( ": " ).append( format( time / frames ) ).append( "ms" );
+		}
+
+		summary.text( text.toString() );
+	}
+
+	//nanoseconds as milliseconds with 2 decimal places
+	private static String format( long nanos ){
+		long hundredths = nanos / 10_000;
+		return (hundredths / 100) + "." + (hundredths % 100 < 10 ? "0" : "") + (hundredths % 100);
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		TextureCache.remove( CACHE_KEY );
+	}
+}
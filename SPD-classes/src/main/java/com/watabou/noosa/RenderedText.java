@@ -37,10 +37,11 @@ import java.nio.Buffer;
 import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class RenderedText extends Image {
 	
-	private BitmapFont font = null;
 	private int size;
 	private String text;
 	
@@ -76,6 +77,13 @@ public class RenderedText extends Image {
 	}
 
 	private static final ArrayList<Character> alreadyReported = new ArrayList<>();
+
+	//text is laid out and converted into quads once, and the result is shared between all texts
+	// with the same font and string. This means that re-showing unchanged text costs nothing.
+	private static final int LAYOUTS_PER_FONT = 500;
+	private static final HashMap<BitmapFont, LinkedHashMap<String, TextLayout>> layouts = new HashMap<>();
+
+	TextLayout layout = null;
 	
 	private synchronized void measure(){
 		
@@ -87,47 +95,92 @@ public class RenderedText extends Image {
 			text = "";
 			width=height=0;
 			visible = false;
+			layout = null;
 			return;
 		} else {
 			visible = true;
 		}
 		
-		font = Game.platform.getFont(size, text, true, true);
+		BitmapFont font = Game.platform.getFont(size, text, true, true);
 		
 		if (font != null){
-			GlyphLayout glyphs = new GlyphLayout( font, text);
+			layout = getLayout( font, text );
 			
-			for (char c : text.toCharArray()) {
-				BitmapFont.Glyph g = font.getData().getGlyph(c);
-				if (g == null || (g.id != c)){
-					String toException = text;
-					if (toException.length() > 30){
-						toException = toException.substring(0, 30) + "...";
-					}
-					//reduces logspam
-					if (!alreadyReported.contains(c)) {
-						Game.reportException(new Throwable("font file " + font.toString() + " could not render " + c + " from string: " + toException));
-						alreadyReported.add(c);
+			width = layout.width;
+			//this is identical to l.height in most cases, but we force this for consistency.
+			height = Math.round(size*0.75f);
+			renderedHeight = layout.height;
+		} else {
+			layout = null;
+		}
+	}
+
+	//text can be measured from multiple threads, so the cache and the building of layouts
+	// (which goes through the shared text renderer and the font's own glyph cache) are locked
+	private static TextLayout getLayout( BitmapFont font, String text ){
+		synchronized (layouts) {
+			LinkedHashMap<String, TextLayout> fontLayouts = layouts.get(font);
+			if (fontLayouts == null) {
+				fontLayouts = new LinkedHashMap<String, TextLayout>(16, 0.75f, true) {
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<String, TextLayout> eldest) {
+						return size() > LAYOUTS_PER_FONT;
 					}
-				}
+				};
+				layouts.put(font, fontLayouts);
 			}
-			
-			//We use the xadvance of the last glyph in some cases to fix issues
-			// with fullwidth punctuation marks in some asian scripts
-			BitmapFont.Glyph lastGlyph = font.getData().getGlyph(text.charAt(text.length()-1));
-			if (lastGlyph != null && lastGlyph.xadvance > lastGlyph.width*1.5f){
-				width = glyphs.width - lastGlyph.width + lastGlyph.xadvance;
-			} else {
-				width = glyphs.width;
+
+			TextLayout layout = fontLayouts.get(text);
+			if (layout == null) {
+				layout = createLayout(font, text);
+				fontLayouts.put(text, layout);
 			}
-			
-			//this is identical to l.height in most cases, but we force this for consistency.
-			height = Math.round(size*0.75f);
-			renderedHeight = glyphs.height;
+			return layout;
+		}
+	}
+
+	private static TextLayout createLayout( BitmapFont font, String text ){
+		for (char c : text.toCharArray()) {
+			BitmapFont.Glyph g = font.getData().getGlyph(c);
+			if (g == null || (g.id != c)){
+				String toException = text;
+				if (toException.length() > 30){
+					toException = toException.substring(0, 30) + "...";
+				}
+				//reduces logspam
+				if (!alreadyReported.contains(c)) {
+					Game.reportException(new Throwable("font file " + font.toString() + " could not render " + c + " from string: " + toException));
+					alreadyReported.add(c);
+				}
+			}
+		}
+
+		TextLayout layout = new TextLayout();
+		TextRenderBatch.layoutBeingBuilt = layout;
+		GlyphLayout glyphs = font.draw(textRenderer, text, 0, 0);
+		TextRenderBatch.layoutBeingBuilt = null;
+
+		//We use the xadvance of the last glyph in some cases to fix issues
+		// with fullwidth punctuation marks in some asian scripts
+		BitmapFont.Glyph lastGlyph = font.getData().getGlyph(text.charAt(text.length()-1));
+		if (lastGlyph != null && lastGlyph.xadvance > lastGlyph.width*1.5f){
+			layout.width = glyphs.width - lastGlyph.width + lastGlyph.xadvance;
+		} else {
+			layout.width = glyphs.width;
+		}
+		layout.height = glyphs.height;
+
+		return layout;
+	}
+
+	//should be called whenever fonts are disposed of, as layouts refer to their textures
+	public static void clearLayouts(){
+		synchronized (layouts) {
+			layouts.clear();
 		}
 	}
 	
-	private float renderedHeight = 0;
+	float renderedHeight = 0;
 	
 	@Override
 	protected void updateMatrix() {
@@ -142,38 +195,60 @@ public class RenderedText extends Image {
 	
 	@Override
 	public synchronized void draw() {
-		if (font != null) {
+		if (layout != null) {
 			updateMatrix();
-			TextRenderBatch.textBeingRendered = this;
-			font.draw(textRenderer, text, 0, 0);
+
+			NoosaScript script = NoosaScript.get();
+
+			script.camera( camera() );
+
+			script.uModel.valueM4( matrix );
+			script.lighting(
+					rm, gm, bm, am,
+					ra, ga, ba, aa );
+
+			for (int i = 0; i < layout.textures.size(); i++){
+				layout.textures.get(i).bind();
+				com.watabou.glwrap.Texture.clear();
+
+				script.drawQuadSet( layout.quads.get(i), layout.quadCounts.get(i) );
+			}
 		}
 	}
 
+	//the measured size and quads of a string in a particular font, one quad set per font page
+	//also read by TextMesh, which combines many texts into one set of quads
+	static class TextLayout {
+
+		float width;
+		float height;
+
+		ArrayList<Texture> textures = new ArrayList<>();
+		ArrayList<FloatBuffer> quads = new ArrayList<>();
+		ArrayList<Integer> quadCounts = new ArrayList<>();
+
+	}
+
 	//implements regular PD rendering within a libGDX batch so that our rendering logic
 	//can interface with the freetype font generator
 	//some copypasta from BitmapText here
 	private static class TextRenderBatch implements Batch {
 		
-		//this isn't as good as only updating once, like with BitmapText
-		// but it skips almost all allocations, which is almost as good
-		private static RenderedText textBeingRendered = null;
+		//rather than drawing, vertices are converted into quads and stored in a layout
+		// so that they can be drawn repeatedly, similar to BitmapText
+		private static TextLayout layoutBeingBuilt = null;
 		private static float[] vertices = new float[16];
-		private static HashMap<Integer, FloatBuffer> buffers = new HashMap<>();
 
 		@Override
 		public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
-			Visual v = textBeingRendered;
-			
-			FloatBuffer toOpenGL;
-			if (buffers.containsKey(count/20)){
-				toOpenGL = buffers.get(count/20);
-				((Buffer)toOpenGL).position(0);
-			} else {
-				toOpenGL = Quad.createSet(count / 20);
-				buffers.put(count/20, toOpenGL);
+			TextLayout layout = layoutBeingBuilt;
+			if (layout == null){
+				return;
 			}
 			
-			for (int i = 0; i < count; i += 20){
+			FloatBuffer toOpenGL = Quad.createSet(count / 20);
+			
+			for (int i = offset; i < offset + count; i += 20){
 				
 				vertices[0]     = spriteVertices[i+0];
 				vertices[1]     = spriteVertices[i+1];
@@ -205,19 +280,9 @@ public class RenderedText extends Image {
 
 			((Buffer)toOpenGL).position(0);
 			
-			NoosaScript script = NoosaScript.get();
-			
-			texture.bind();
-			com.watabou.glwrap.Texture.clear();
-			
-			script.camera( v.camera() );
-			
-			script.uModel.valueM4( v.matrix );
-			script.lighting(
-					v.rm, v.gm, v.bm, v.am,
-					v.ra, v.ga, v.ba, v.aa );
-			
-			script.drawQuadSet( toOpenGL, count/20 );
+			layout.textures.add(texture);
+			layout.quads.add(toOpenGL);
+			layout.quadCounts.add(count/20);
 		}
 		
 		//none of these functions are needed, so they are stubbed
@@ -0,0 +1,144 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.watabou.noosa;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.watabou.glwrap.Quad;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+
+//combines the quads of many rendered texts into one quad set per font texture, so that they
+// can all be drawn together instead of each text being drawn separately
+public class TextMesh extends Visual {
+
+	private ArrayList<Texture> textures = new ArrayList<>();
+	private ArrayList<FloatBuffer> quads = new ArrayList<>();
+	private int[] quadCounts = new int[0];
+
+	public TextMesh(){
+		super( 0, 0, 0, 0 );
+	}
+
+	//empties the mesh, but keeps its buffers so they can be refilled without reallocating
+	public synchronized void clear(){
+		for (int i = 0; i < quadCounts.length; i++){
+			quadCounts[i] = 0;
+		}
+	}
+
+	public synchronized boolean isEmpty(){
+		for (int count : quadCounts){
+			if (count > 0) return false;
+		}
+		return true;
+	}
+
+	//adds the quads of a text, placed where that text would draw itself relative to this mesh
+	//the mesh should have no scale or rotation of its own
+	public synchronized void add( RenderedText text ){
+		RenderedText.TextLayout layout = text.layout;
+		if (layout == null || !text.visible){
+			return;
+		}
+
+		float sx = text.scale.x;
+		float sy = text.scale.y;
+		float dx = text.x - x;
+		//same offset that rendered text applies in updateMatrix
+		float dy = text.y - y;
+		if (text.renderedHeight != text.height) {
+			dy += Math.round(text.height - text.renderedHeight) * sy;
+		}
+
+		for (int i = 0; i < layout.textures.size(); i++){
+			int count = layout.quadCounts.get(i);
+			FloatBuffer src = layout.quads.get(i);
+
+			int set = quadSet( layout.textures.get(i), count );
+			FloatBuffer dst = quads.get(set);
+
+			int pos = quadCounts[set] * 16;
+			for (int j = 0; j < count * 16; j += 4){
+				dst.put( pos + j,       dx + sx * src.get(j) );
+				dst.put( pos + j + 1,   dy + sy * src.get(j + 1) );
+				dst.put( pos + j + 2,   src.get(j + 2) );
+				dst.put( pos + j + 3,   src.get(j + 3) );
+			}
+			quadCounts[set] += count;
+		}
+	}
+
+	//returns the index of the quad set for a texture, with room for the given number of extra quads
+	private int quadSet( Texture texture, int extraQuads ){
+		int set = textures.indexOf( texture );
+		if (set == -1){
+			set = textures.size();
+			textures.add( texture );
+			quads.add( Quad.createSet( Math.max( extraQuads, 16 ) ) );
+
+			int[] newCounts = new int[set + 1];
+			System.arraycopy( quadCounts, 0, newCounts, 0, quadCounts.length );
+			quadCounts = newCounts;
+		}
+
+		FloatBuffer buffer = quads.get( set );
+		int needed = (quadCounts[set] + extraQuads) * 16;
+		if (buffer.capacity() < needed){
+			FloatBuffer bigger = Quad.createSet( Math.max( needed / 16, buffer.capacity() / 8 ) );
+			((Buffer)buffer).position( 0 );
+			((Buffer)buffer).limit( quadCounts[set] * 16 );
+			bigger.put( buffer );
+			((Buffer)bigger).position( 0 );
+			quads.set( set, bigger );
+		}
+
+		return set;
+	}
+
+	@Override
+	public synchronized void draw() {
+		if (isEmpty()) return;
+
+		super.draw();
+
+		NoosaScript script = NoosaScript.get();
+
+		script.camera( camera() );
+
+		script.uModel.valueM4( matrix );
+		script.lighting(
+				rm, gm, bm, am,
+				ra, ga, ba, aa );
+
+		for (int i = 0; i < textures.size(); i++){
+			if (quadCounts[i] == 0) continue;
+
+			textures.get(i).bind();
+			com.watabou.glwrap.Texture.clear();
+
+			script.drawQuadSet( quads.get(i), quadCounts[i] );
+		}
+	}
+}
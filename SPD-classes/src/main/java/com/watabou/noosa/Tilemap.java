@@ -25,6 +25,7 @@ import com.watabou.gltextures.SmartTexture;
 import com.watabou.gltextures.TextureCache;
 import com.watabou.glwrap.Quad;
 import com.watabou.glwrap.Vertexbuffer;
+import com.watabou.utils.Profiler;
 import com.watabou.utils.Rect;
 import com.watabou.utils.RectF;
 
@@ -199,7 +200,9 @@ public class Tilemap extends Visual {
 		super.draw();
 
 		if (!updated.isEmpty()) {
+			long start = Profiler.begin();
 			updateVertices();
+			Profiler.end("Tilemap.updateVertices", start);
 			if (buffer == null)
 				buffer = new Vertexbuffer(quads);
 			else {
@@ -277,19 +277,28 @@ public class Visual extends Gizmo {
 
 		if (c == null || !visible) return false;
 
+		return onScreen( 0 );
+	}
+
+	@Override
+	public boolean onScreen( float margin ) {
+		Camera c = camera();
+
+		if (c == null) return false;
+
 		//FIXME, the below calculations ignore angle, so assume visible if angle != 0
 		if (angle != 0) return true;
 
 		//x coord
-		if (x > c.scroll.x + c.width)
+		if (x - margin > c.scroll.x + c.width)
 			return false;
-		else if (!(x >= c.scroll.x || x + width() >= c.scroll.x))
+		else if (!(x >= c.scroll.x || x + width() + margin >= c.scroll.x))
 			return false;
 
 		//y coord
-		if (y > c.scroll.y + c.height)
+		if (y - margin > c.scroll.y + c.height)
 			return false;
-		else if (!(y >= c.scroll.y || y + height() >= c.scroll.y))
+		else if (!(y >= c.scroll.y || y + height() + margin >= c.scroll.y))
 			return false;
 
 		return true;
@@ -123,7 +123,7 @@ public enum Music {
 		trackQueue.clear();
 
 		for (int i = 0; i < trackList.length; i++){
-			if (Random.Float() < trackChances[i]){
+			if (Random.Visual.Float() < trackChances[i]){
 				trackQueue.add(trackList[i]);
 			}
 		}
@@ -196,7 +196,7 @@ public enum Music {
 
 		if (trackQueue.isEmpty()) {
 			for (int i = 0; i < trackList.length; i++) {
-				if (Random.Float() < trackChances[i]) {
+				if (Random.Visual.Float() < trackChances[i]) {
 					trackQueue.add(trackList[i]);
 				}
 			}
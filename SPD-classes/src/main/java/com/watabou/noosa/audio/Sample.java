@@ -81,6 +81,22 @@ public enum Sample {
 		
 	}
 
+	//moves the given assets to the front of the loading queue, queueing them if needed
+	public synchronized void prioritize( final String... assets ) {
+
+		for (int i = assets.length-1; i >= 0; i--){
+			String asset = assets[i];
+			if (!ids.containsKey(asset)){
+				boolean queued = loadingQueue.remove(asset);
+				loadingQueue.addFirst(asset);
+				if (!queued && loadingQueue.size() == 1){
+					Game.runOnRenderThread(loadingCallback);
+				}
+			}
+		}
+
+	}
+
 	private Callback loadingCallback = new Callback() {
 		@Override
 		public void call() {
@@ -120,14 +136,26 @@ public enum Sample {
 		return play( id, volume, volume, pitch );
 	}
 	
-	public synchronized long play( Object id, float leftVolume, float rightVolume, float pitch ) {
-		float volume = Math.max(leftVolume, rightVolume);
-		float pan = rightVolume - leftVolume;
-		if (enabled && ids.containsKey( id )) {
-			return ids.get(id).play( globalVolume*volume, pitch, pan );
-		} else {
-			return -1;
+	public long play( Object id, float leftVolume, float rightVolume, float pitch ) {
+		synchronized (this) {
+			float volume = Math.max(leftVolume, rightVolume);
+			float pan = rightVolume - leftVolume;
+			if (!enabled) {
+				return -1;
+			} else if (ids.containsKey( id )) {
+				return ids.get(id).play( globalVolume*volume, pitch, pan );
+			} else if (!loadingQueue.contains( id )) {
+				return -1;
+			}
+			//sound is still waiting to load, load it next
+			loadingQueue.remove( id );
+			loadingQueue.addFirst( (String) id );
 		}
+
+		//and play it as soon as it is ready, rather than dropping it
+		//this is done outside of the lock to avoid contention with update()
+		queueSFX( id, 0, leftVolume, rightVolume, pitch );
+		return -1;
 	}
 
 	private class DelayedSoundEffect{
@@ -158,6 +186,10 @@ public enum Sample {
 			play(id, leftVolume, rightVolume, pitch);
 			return;
 		}
+		queueSFX( id, delay, leftVolume, rightVolume, pitch );
+	}
+
+	private void queueSFX( Object id, float delay, float leftVolume, float rightVolume, float pitch ) {
 		DelayedSoundEffect sfx = new DelayedSoundEffect();
 		sfx.id = id;
 		sfx.delay = delay;
@@ -170,16 +202,26 @@ public enum Sample {
 	}
 
 	public void update(){
+		DelayedSoundEffect[] toPlay;
 		synchronized (delayedSFX) {
 			if (delayedSFX.isEmpty()) return;
-			for (DelayedSoundEffect sfx : delayedSFX.toArray(new DelayedSoundEffect[0])) {
+			toPlay = delayedSFX.toArray(new DelayedSoundEffect[0]);
+			for (int i = 0; i < toPlay.length; i++) {
+				DelayedSoundEffect sfx = toPlay[i];
 				sfx.delay -= Game.elapsed;
 				if (sfx.delay <= 0) {
 					delayedSFX.remove(sfx);
-					play(sfx.id, sfx.leftVol, sfx.rightVol, sfx.pitch);
+				} else {
+					toPlay[i] = null;
 				}
 			}
 		}
+		//played outside of the lock, as play() may queue sounds that aren't loaded yet
+		for (DelayedSoundEffect sfx : toPlay){
+			if (sfx != null) {
+				play(sfx.id, sfx.leftVol, sfx.rightVol, sfx.pitch);
+			}
+		}
 	}
 
 	public void enable( boolean value ) {
@@ -40,8 +40,8 @@ public class BitmaskEmitter extends Emitter {
 		this.target = target;
 
 		map = target.texture;
-		mapW = map.bitmap.getWidth();
-		mapH = map.bitmap.getHeight();
+		mapW = map.width;
+		mapH = map.height;
 	}
 
 	@Override
@@ -53,9 +53,9 @@ public class BitmaskEmitter extends Emitter {
 
 		float x, y;
 		do {
-			x = Random.Float( frame.width() ) * mapW;
-			y = Random.Float( frame.height() ) * mapH;
-		} while ((map.bitmap.getPixel( (int)(x + ofsX), (int)(y + ofsY) ) & 0x000000FF) == 0);
+			x = Random.Visual.Float( frame.width() ) * mapW;
+			y = Random.Visual.Float( frame.height() ) * mapH;
+		} while ((map.getPixel( (int)(x + ofsX), (int)(y + ofsY) ) >>> 24) == 0);
 
 		factory.emit( this, index,
 				target.x + x * target.scale.x,
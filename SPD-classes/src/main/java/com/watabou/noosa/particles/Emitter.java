@@ -22,6 +22,7 @@
 package com.watabou.noosa.particles;
 
 import com.watabou.glwrap.Blending;
+import com.watabou.noosa.Camera;
 import com.watabou.noosa.Game;
 import com.watabou.noosa.Group;
 import com.watabou.noosa.Visual;
@@ -96,7 +97,7 @@ public class Emitter extends Group {
 		this.quantity = quantity;
 		
 		count = 0;
-		time = Random.Float( interval );
+		time = Random.Visual.Float( interval );
 		
 		on = true;
 		started = true;
@@ -147,25 +148,54 @@ public class Emitter extends Group {
 			factory.emit(
 				this,
 				index,
-				x + Random.Float( width ),
-				y + Random.Float( height ) );
+				x + Random.Visual.Float( width ),
+				y + Random.Visual.Float( height ) );
 		} else {
 			if (fillTarget) {
 				factory.emit(
 						this,
 						index,
-						target.x + Random.Float( target.width ),
-						target.y + Random.Float( target.height ) );
+						target.x + Random.Visual.Float( target.width ),
+						target.y + Random.Visual.Float( target.height ) );
 			} else {
 				factory.emit(
 						this,
 						index,
-						target.x + x + Random.Float( width ),
-						target.y + y + Random.Float( height ) );
+						target.x + x + Random.Visual.Float( width ),
+						target.y + y + Random.Visual.Float( height ) );
 			}
 		}
 	}
 	
+	// uses the area particles are emitted from, which is either the emitter's bounds or its target's
+	@Override
+	public boolean onScreen( float margin ) {
+		Camera c = camera();
+
+		if (c == null) return true;
+
+		float left, top, right, bottom;
+		if (target == null) {
+			left = x;
+			top = y;
+			right = x + width;
+			bottom = y + height;
+		} else if (fillTarget) {
+			left = target.x;
+			top = target.y;
+			right = target.x + target.width;
+			bottom = target.y + target.height;
+		} else {
+			left = target.x + x;
+			top = target.y + y;
+			right = left + width;
+			bottom = top + height;
+		}
+
+		return right + margin >= c.scroll.x && left - margin <= c.scroll.x + c.width
+				&& bottom + margin >= c.scroll.y && top - margin <= c.scroll.y + c.height;
+	}
+	
 	@Override
 	public void draw() {
 		if (lightMode) {
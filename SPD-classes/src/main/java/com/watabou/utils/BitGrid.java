@@ -0,0 +1,236 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.watabou.utils;
+
+//A grid of booleans packed into longs, so that bulk operations work on 64 cells at a time.
+//Mirrors the operations in BArray, and can be converted to and from boolean arrays
+public class BitGrid {
+
+	private static final int ADDRESS_BITS = 6;
+	private static final long ALL_BITS = 0xFFFFFFFFFFFFFFFFL;
+
+	private final long[] words;
+
+	public final int width;
+	public final int height;
+	public final int length;
+
+	public BitGrid( int length ){
+		this( length, 1 );
+	}
+
+	public BitGrid( int width, int height ){
+		this.width = width;
+		this.height = height;
+		length = width * height;
+		words = new long[wordIndex(length - 1) + 1];
+	}
+
+	private static int wordIndex( int cell ){
+		return cell >> ADDRESS_BITS;
+	}
+
+	//clears the unused bits at the end of the last word, which should always be 0
+	private void maskLastWord(){
+		//an empty grid has no words at all
+		if (words.length > 0){
+			words[words.length - 1] &= ALL_BITS >>> -length;
+		}
+	}
+
+	public boolean get( int cell ){
+		return (words[wordIndex(cell)] & (1L << cell)) != 0;
+	}
+
+	public void set( int cell ){
+		words[wordIndex(cell)] |= 1L << cell;
+	}
+
+	public void set( int cell, boolean value ){
+		if (value)  words[wordIndex(cell)] |= 1L << cell;
+		else        words[wordIndex(cell)] &= ~(1L << cell);
+	}
+
+	public void clear( int cell ){
+		words[wordIndex(cell)] &= ~(1L << cell);
+	}
+
+	public void setAll( boolean value ){
+		long fill = value ? ALL_BITS : 0;
+		for (int i = 0; i < words.length; i++){
+			words[i] = fill;
+		}
+		maskLastWord();
+	}
+
+	public void copy( BitGrid other ){
+		System.arraycopy(other.words, 0, words, 0, words.length);
+	}
+
+	public BitGrid and( BitGrid other ){
+		for (int i = 0; i < words.length; i++){
+			words[i] &= other.words[i];
+		}
+		return this;
+	}
+
+	public BitGrid or( BitGrid other ){
+		for (int i = 0; i < words.length; i++){
+			words[i] |= other.words[i];
+		}
+		return this;
+	}
+
+	public BitGrid andNot( BitGrid other ){
+		for (int i = 0; i < words.length; i++){
+			words[i] &= ~other.words[i];
+		}
+		return this;
+	}
+
+	public BitGrid not(){
+		for (int i = 0; i < words.length; i++){
+			words[i] = ~words[i];
+		}
+		maskLastWord();
+		return this;
+	}
+
+	//ors only the cells from offset to offset+count-1, e.g. part of a row
+	public BitGrid or( BitGrid other, int offset, int count ){
+		if (count <= 0) return this;
+
+		int end = offset + count - 1;
+		int first = wordIndex(offset);
+		int last = wordIndex(end);
+
+		long firstMask = ALL_BITS << offset;
+		long lastMask = ALL_BITS >>> -(end + 1);
+
+		if (first == last){
+			words[first] |= other.words[first] & firstMask & lastMask;
+		} else {
+			words[first] |= other.words[first] & firstMask;
+			for (int i = first + 1; i < last; i++){
+				words[i] |= other.words[i];
+			}
+			words[last] |= other.words[last] & lastMask;
+		}
+		return this;
+	}
+
+	//ors a rectangular area, one row-range at a time
+	public BitGrid or( BitGrid other, int left, int top, int w, int h ){
+		int pos = left + top * width;
+		for (int i = 0; i < h; i++){
+			or( other, pos, w );
+			pos += width;
+		}
+		return this;
+	}
+
+	public int cardinality(){
+		int count = 0;
+		for (long word : words){
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	public boolean isEmpty(){
+		for (long word : words){
+			if (word != 0) return false;
+		}
+		return true;
+	}
+
+	//returns the first set cell at or after the given cell, or -1 if there are none.
+	//iterate with: for (int i = grid.nextSetBit(0); i != -1; i = grid.nextSetBit(i+1))
+	public int nextSetBit( int from ){
+		if (from >= length) return -1;
+
+		int i = wordIndex(from);
+		long word = words[i] & (ALL_BITS << from);
+
+		while (true){
+			if (word != 0){
+				return (i << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+			}
+			if (++i == words.length){
+				return -1;
+			}
+			word = words[i];
+		}
+	}
+
+	public void fromArray( boolean[] a ){
+		for (int i = 0; i < words.length; i++){
+			words[i] = 0;
+		}
+		for (int i = 0; i < length; i++){
+			if (a[i]) words[wordIndex(i)] |= 1L << i;
+		}
+	}
+
+	public boolean[] toArray( boolean[] result ){
+		if (result == null) {
+			result = new boolean[length];
+		}
+		for (int i = 0; i < length; i++){
+			result[i] = (words[wordIndex(i)] & (1L << i)) != 0;
+		}
+		return result;
+	}
+
+	public static BitGrid fromArray( boolean[] a, int width ){
+		BitGrid result = new BitGrid( width, a.length / width );
+		result.fromArray( a );
+		return result;
+	}
+
+	//equivalents to BArray.is and BArray.isOneOf
+	public BitGrid is( int[] a, int v1 ){
+		for (int i = 0; i < words.length; i++){
+			words[i] = 0;
+		}
+		for (int i = 0; i < length; i++){
+			if (a[i] == v1) words[wordIndex(i)] |= 1L << i;
+		}
+		return this;
+	}
+
+	public BitGrid isOneOf( int[] a, int... v ){
+		for (int i = 0; i < words.length; i++){
+			words[i] = 0;
+		}
+		for (int i = 0; i < length; i++){
+			for (int j = 0; j < v.length; j++){
+				if (a[i] == v[j]){
+					words[wordIndex(i)] |= 1L << i;
+					break;
+				}
+			}
+		}
+		return this;
+	}
+}
@@ -44,6 +44,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -55,6 +56,17 @@ public class Bundle {
 
 	private static HashMap<String,String> aliases = new HashMap<>();
 
+	//the same classes are restored many times over when loading, so reflection results are cached
+	private static final ConcurrentHashMap<String, Class<?>> classes = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<Class<?>, Boolean> restorable = new ConcurrentHashMap<>();
+
+	//creates a Bundlable without reflection, registered for classes which are restored in large numbers
+	public interface Factory {
+		Bundlable create();
+	}
+
+	private static final ConcurrentHashMap<String, Factory> factories = new ConcurrentHashMap<>();
+
 	/*
 		WARNING: NOT ALL METHODS IN ORG.JSON ARE PRESENT ON ANDROID/IOS!
 		Many methods which work on desktop will cause the game to crash on Android and iOS
@@ -128,11 +140,7 @@ public class Bundle {
 	public Class getClass( String key ) {
 		String clName =  getString(key).replace("class ", "");
 		if (!clName.equals("")){
-			if (aliases.containsKey( clName )) {
-				clName = aliases.get( clName );
-			}
-
-			return Reflection.forName( clName );
+			return classForName( clName );
 		}
 		return null;
 	}
@@ -145,21 +153,23 @@ public class Bundle {
 		if (data == null) return null;
 
 		String clName = getString( CLASS_NAME );
-		if (aliases.containsKey( clName )) {
-			clName = aliases.get( clName );
-		}
 
-		Class<?> cl = Reflection.forName( clName );
-		//Skip none-static inner classes as they can't be instantiated through bundle restoring
-		//Classes which make use of none-static inner classes must manage instantiation manually
-		if (cl != null && (!Reflection.isMemberClass(cl) || Reflection.isStatic(cl))) {
-			Bundlable object = (Bundlable) Reflection.newInstance(cl);
-			if (object != null) {
-				object.restoreFromBundle(this);
-				return object;
+		Bundlable object = null;
+		Factory factory = factories.get( clName );
+		if (factory != null) {
+			object = factory.create();
+		} else {
+			Class<?> cl = classForName( clName );
+			if (cl != null && isRestorable(cl)) {
+				object = (Bundlable) Reflection.newInstance(cl);
 			}
 		}
 
+		if (object != null) {
+			object.restoreFromBundle(this);
+			return object;
+		}
+
 		return null;
 	}
 
@@ -261,11 +271,7 @@ public class Bundle {
 			Class[] result = new Class[length];
 			for (int i=0; i < length; i++) {
 				String clName = array.getString( i ).replace("class ", "");
-				if (aliases.containsKey( clName )) {
-					clName = aliases.get( clName );
-				}
-				Class cl = Reflection.forName( clName );
-				result[i] = cl;
+				result[i] = classForName( clName );
 			}
 			return result;
 		} catch (JSONException e) {
@@ -464,11 +470,9 @@ public class Bundle {
 	public void put( String key, Collection<? extends Bundlable> collection ) {
 		JSONArray array = new JSONArray();
 		for (Bundlable object : collection) {
-			//Skip none-static inner classes as they can't be instantiated through bundle restoring
-			//Classes which make use of none-static inner classes must manage instantiation manually
 			if (object != null) {
 				Class cl = object.getClass();
-				if ((!Reflection.isMemberClass(cl) || Reflection.isStatic(cl))) {
+				if (isRestorable(cl)) {
 					Bundle bundle = new Bundle();
 					bundle.put(CLASS_NAME, cl.getName());
 					object.storeInBundle(bundle);
@@ -489,6 +493,15 @@ public class Bundle {
 	private static final int GZIP_BUFFER = 1024*4; //4 kb
 
 	public static Bundle read( InputStream stream ) throws IOException {
+		long start = Profiler.begin();
+		try {
+			return readStream( stream );
+		} finally {
+			Profiler.end("Bundle.read", start);
+		}
+	}
+
+	private static Bundle readStream( InputStream stream ) throws IOException {
 
 		try {
 			if (!stream.markSupported()){
@@ -568,6 +581,15 @@ public class Bundle {
 	}
 
 	public static boolean write( Bundle bundle, OutputStream stream, boolean compressed ) {
+		long start = Profiler.begin();
+		try {
+			return writeStream( bundle, stream, compressed );
+		} finally {
+			Profiler.end("Bundle.write", start);
+		}
+	}
+
+	private static boolean writeStream( Bundle bundle, OutputStream stream, boolean compressed ) {
 		try {
 			BufferedWriter writer;
 			if (compressed) writer = new BufferedWriter( new OutputStreamWriter( new GZIPOutputStream(stream, GZIP_BUFFER ) ) );
@@ -586,6 +608,39 @@ public class Bundle {
 	
 	public static void addAlias( Class<?> cl, String alias ) {
 		aliases.put( alias, cl.getName() );
+		classes.remove( alias );
+	}
+
+	//factories are looked up by the class name that is stored in the bundle, other classes fall back to reflection
+	public static void addFactory( Class<? extends Bundlable> cl, Factory factory ) {
+		factories.put( cl.getName(), factory );
+	}
+
+	//resolves aliases and caches the result, failed lookups are not cached so they are still reported
+	private static Class<?> classForName( String clName ){
+		Class<?> cl = classes.get( clName );
+		if (cl == null) {
+			String name = clName;
+			if (aliases.containsKey( name )) {
+				name = aliases.get( name );
+			}
+			cl = Reflection.forName( name );
+			if (cl != null) {
+				classes.put( clName, cl );
+			}
+		}
+		return cl;
+	}
+
+	//Skip none-static inner classes as they can't be instantiated through bundle restoring
+	//Classes which make use of none-static inner classes must manage instantiation manually
+	private static boolean isRestorable( Class<?> cl ){
+		Boolean result = restorable.get( cl );
+		if (result == null) {
+			result = !Reflection.isMemberClass(cl) || Reflection.isStatic(cl);
+			restorable.put( cl, result );
+		}
+		return result;
 	}
 	
 }
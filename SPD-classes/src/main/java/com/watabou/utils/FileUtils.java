@@ -25,12 +25,15 @@ import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.watabou.noosa.Game;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 public class FileUtils {
 	
@@ -132,6 +135,16 @@ public class FileUtils {
 		}
 	}
 	
+	//returns the last modified time of a file in ms, or 0 if file does not exist
+	public static long fileLastModified( String name ){
+		FileHandle file = getFileHandle( name );
+		if (!file.exists() || file.isDirectory()){
+			return 0;
+		} else {
+			return file.lastModified();
+		}
+	}
+	
 	public static boolean deleteFile( String name ){
 		return getFileHandle( name ).delete();
 	}
@@ -176,6 +189,7 @@ public class FileUtils {
 	
 	//only works for base path
 	public static Bundle bundleFromFile( String fileName ) throws IOException{
+		waitForWrite( fileName );
 		try {
 			FileHandle file = getFileHandle( fileName );
 			if (!file.exists() || file.isDirectory() || file.length() == 0) {
@@ -198,6 +212,16 @@ public class FileUtils {
 	
 	//only works for base path
 	public static void bundleToFile( String fileName, Bundle bundle ) throws IOException{
+		//a direct write supersedes any background write to the same file
+		synchronized (pendingWrites) {
+			pendingWrites.remove(fileName);
+			pendingFailures.remove(fileName);
+		}
+		waitForWrite( fileName );
+		writeBundle( fileName, bundle );
+	}
+
+	private static void writeBundle( String fileName, Bundle bundle ) throws IOException{
 		try {
 			FileHandle file = getFileHandle(fileName);
 
@@ -219,8 +243,131 @@ public class FileUtils {
 	}
 	
 	private static void bundleToStream( OutputStream output, Bundle bundle ) throws IOException{
-		Bundle.write( bundle, output );
+		boolean written = Bundle.write( bundle, output );
 		output.close();
+		//Bundle.write handles its own exceptions, so a failed write has to be reported here.
+		// This also stops a partly written temp file from replacing the existing file
+		if (!written){
+			throw new IOException("Failed to write bundle");
+		}
+	}
+
+	// deferred bundle writing
+
+	//files waiting to be written by the background writer, only the newest bundle for each is kept
+	private static final LinkedHashMap<String, Bundle> pendingWrites = new LinkedHashMap<>();
+	//called from the writer thread if the matching pending write fails
+	private static final HashMap<String, Callback> pendingFailures = new HashMap<>();
+	private static String currentWrite = null;
+	private static Thread writer = null;
+
+	//writes a bundle to a file in the background. This is useful for data that is saved often
+	// and where the latest version is all that matters, as repeated writes get combined
+	public static void bundleToFileLater( String fileName, Bundle bundle ){
+		bundleToFileLater( fileName, bundle, null );
+	}
+
+	//as above, onFailure is called from the writer thread if the write fails, e.g. so the caller can save again later
+	public static void bundleToFileLater( String fileName, Bundle bundle, Callback onFailure ){
+		synchronized (pendingWrites) {
+			pendingWrites.put(fileName, bundle);
+			if (onFailure != null) {
+				pendingFailures.put(fileName, onFailure);
+			} else {
+				pendingFailures.remove(fileName);
+			}
+			if (writer == null) {
+				startWriter();
+			}
+		}
+	}
+
+	//must be called while holding the lock on pendingWrites
+	private static void startWriter(){
+		writer = new Thread() {
+			@Override
+			public void run() {
+				writePending();
+			}
+		};
+		writer.start();
+	}
+
+	private static void writePending(){
+		try {
+			while (true) {
+				String fileName;
+				Bundle bundle;
+				Callback onFailure;
+				synchronized (pendingWrites) {
+					if (pendingWrites.isEmpty()) {
+						writer = null;
+						pendingWrites.notifyAll();
+						return;
+					}
+					fileName = pendingWrites.keySet().iterator().next();
+					bundle = pendingWrites.remove(fileName);
+					onFailure = pendingFailures.remove(fileName);
+					currentWrite = fileName;
+				}
+
+				try {
+					writeBundle(fileName, bundle);
+				} catch (IOException e) {
+					Game.reportException(e);
+					if (onFailure != null) {
+						onFailure.call();
+					}
+				} finally {
+					synchronized (pendingWrites) {
+						currentWrite = null;
+						pendingWrites.notifyAll();
+					}
+				}
+			}
+		} finally {
+			//if an unexpected exception ended this writer early, nothing may be left waiting on it.
+			// Any remaining writes are handed to a new writer
+			synchronized (pendingWrites) {
+				if (writer == Thread.currentThread()) {
+					writer = null;
+					currentWrite = null;
+					if (!pendingWrites.isEmpty()) {
+						startWriter();
+					}
+					pendingWrites.notifyAll();
+				}
+			}
+		}
+	}
+
+	//blocks until the given file has no pending or in-progress background write
+	private static void waitForWrite( String fileName ){
+		synchronized (pendingWrites) {
+			while (pendingWrites.containsKey(fileName) || fileName.equals(currentWrite)) {
+				try {
+					pendingWrites.wait();
+				} catch (InterruptedException e) {
+					//restore the flag so the caller can still see it was interrupted
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	//blocks until all background writes are complete, e.g. before the app may be closed
+	public static void finishWrites(){
+		synchronized (pendingWrites) {
+			while (writer != null) {
+				try {
+					pendingWrites.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
 	}
 
 }
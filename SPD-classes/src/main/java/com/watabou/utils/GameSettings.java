@@ -23,6 +23,7 @@ package com.watabou.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.watabou.noosa.Game;
 
 public class GameSettings {
@@ -42,6 +43,33 @@ public class GameSettings {
 	public static void set( Preferences prefs ){
 		GameSettings.prefs = prefs;
 	}
+
+	//changes are written to disk a short while after they are made, rather than after every put.
+	//This means that bursts of changes (e.g. dragging a slider) only result in one write
+	private static final long FLUSH_DELAY = 1000;
+	//time of the oldest unwritten change, or -1 if there are none
+	private static long dirtySince = -1;
+
+	private static synchronized void markDirty(){
+		if (dirtySince == -1){
+			dirtySince = TimeUtils.millis();
+		}
+	}
+
+	//should be called regularly, writes pending changes once they are old enough
+	public static synchronized void update(){
+		if (dirtySince != -1 && TimeUtils.millis() - dirtySince >= FLUSH_DELAY){
+			flush();
+		}
+	}
+
+	//writes any pending changes immediately
+	public static synchronized void flush(){
+		if (dirtySince != -1){
+			dirtySince = -1;
+			get().flush();
+		}
+	}
 	
 	public static boolean contains( String key ){
 		return get().contains( key );
@@ -120,22 +148,22 @@ public class GameSettings {
 	
 	public static void put( String key, int value ) {
 		get().putInteger(key, value);
-		get().flush();
+		markDirty();
 	}
 
 	public static void put( String key, long value ) {
 		get().putLong(key, value);
-		get().flush();
+		markDirty();
 	}
 	
 	public static void put( String key, boolean value ) {
 		get().putBoolean(key, value);
-		get().flush();
+		markDirty();
 	}
 	
 	public static void put( String key, String value ) {
 		get().putString(key, value);
-		get().flush();
+		markDirty();
 	}
 	
 }
@@ -22,14 +22,36 @@
 package com.watabou.utils;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.PixmapPacker;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Field;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
 import com.watabou.input.ControllerHandler;
 import com.watabou.noosa.Game;
+import com.watabou.noosa.RenderedText;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 public abstract class PlatformSupport {
 	
@@ -63,6 +85,10 @@ public abstract class PlatformSupport {
 
 	//TODO should consider spinning this into its own class, rather than platform support getting ever bigger
 	protected static HashMap<FreeTypeFontGenerator, HashMap<Integer, BitmapFont>> fonts;
+	//the file each generator was created from, see fontGenerator
+	protected static HashMap<FreeTypeFontGenerator, FileHandle> fontFiles = new HashMap<>();
+	//guards fonts being added while they may be saved to the font cache from another thread
+	private static final Object fontsLock = new Object();
 
 	protected int pageSize;
 	protected PixmapPacker packer;
@@ -72,6 +98,17 @@ public abstract class PlatformSupport {
 
 	protected abstract FreeTypeFontGenerator getGeneratorForString( String input );
 
+	//platforms should create generators through these, so that the font cache can tell when a font file changes
+	protected static FreeTypeFontGenerator fontGenerator( FileHandle file ){
+		return fontGenerator( file, 0 );
+	}
+
+	protected static FreeTypeFontGenerator fontGenerator( FileHandle file, int faceIndex ){
+		FreeTypeFontGenerator generator = new FreeTypeFontGenerator( file, faceIndex );
+		fontFiles.put( generator, file );
+		return generator;
+	}
+
 	public abstract String[] splitforTextBlock( String text, boolean multiline );
 
 	public void resetGenerators(){
@@ -79,6 +116,8 @@ public abstract class PlatformSupport {
 	}
 
 	public void resetGenerators( boolean setupAfter ){
+		saveFontCache();
+		cachedGlyphCounts.clear();
 		if (fonts != null) {
 			for (FreeTypeFontGenerator generator : fonts.keySet()) {
 				for (BitmapFont f : fonts.get(generator).values()) {
@@ -96,6 +135,8 @@ public abstract class PlatformSupport {
 			}
 			fonts = null;
 		}
+		fontFiles.clear();
+		RenderedText.clearLayouts();
 		if (setupAfter) setupFontGenerators(pageSize, systemfont);
 	}
 
@@ -115,6 +156,8 @@ public abstract class PlatformSupport {
 			}
 			packer = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, 1, false);
 		}
+		cachedGlyphCounts.clear();
+		RenderedText.clearLayouts();
 	}
 
 	//flipped is needed because Shattered's graphics are y-down, while GDX graphics are y-up.
@@ -129,35 +172,326 @@ public abstract class PlatformSupport {
 		int key = size;
 		if (border) key += Short.MAX_VALUE; //surely we'll never have a size above 32k
 		if (flipped) key = -key;
-		if (!fonts.get(generator).containsKey(key)) {
-			FreeTypeFontGenerator.FreeTypeFontParameter parameters = new FreeTypeFontGenerator.FreeTypeFontParameter();
-			parameters.size = size;
-			parameters.flip = flipped;
-			if (border) {
-				parameters.borderWidth = parameters.size / 10f;
+		synchronized (fontsLock) {
+			if (!fonts.get(generator).containsKey(key)) {
+				FreeTypeFontGenerator.FreeTypeFontParameter parameters = new FreeTypeFontGenerator.FreeTypeFontParameter();
+				parameters.size = size;
+				parameters.flip = flipped;
+				if (border) {
+					parameters.borderWidth = parameters.size / 10f;
+				}
+				if (size >= 20){
+					parameters.renderCount = 2;
+				} else {
+					parameters.renderCount = 3;
+				}
+				parameters.hinting = FreeTypeFontGenerator.Hinting.None;
+				parameters.spaceX = -(int) parameters.borderWidth;
+				parameters.incremental = true;
+				parameters.characters = "�";
+				parameters.packer = packer;
+
+				try {
+					BitmapFont font = generator.generateFont(parameters);
+					font.getData().missingGlyph = font.getData().getGlyph('�');
+					loadFontCache(generator, key, font);
+					fonts.get(generator).put(key, font);
+				} catch ( Exception e ){
+					Game.reportException(e);
+					return null;
+				}
+			}
+
+			return fonts.get(generator).get(key);
+		}
+	}
+
+	//Glyphs are rendered by freetype as they are first needed, which can cause stutters, especially
+	// with asian fonts. Rendered glyphs are saved to a cache so they only need to be rendered once.
+	private static final String FONT_CACHE_DIR = "font_cache/";
+	private static final int FONT_CACHE_FORMAT = 2;
+	//keeps cache files for fonts with huge character sets at a reasonable size
+	private static final int MAX_CACHED_GLYPHS = 4000;
+
+	//number of glyphs in each font when it was last loaded from or saved to the cache
+	protected static HashMap<BitmapFont, Integer> cachedGlyphCounts = new HashMap<>();
+
+	//must uniquely identify the font file (and face within it) a generator uses
+	protected String fontCacheName( FreeTypeFontGenerator generator ){
+		return generator.toString();
+	}
+
+	private String fontCacheFile( FreeTypeFontGenerator generator, int key ){
+		return FONT_CACHE_DIR + fontCacheName(generator) + "_" + key + ".dat";
+	}
+
+	//cached glyphs are only valid for the exact font file they were rendered from. System fonts in
+	// particular can be replaced by OS updates, so the file's size and modified time are checked too
+	private static long fontFileLength( FreeTypeFontGenerator generator ){
+		FileHandle file = fontFiles.get(generator);
+		try {
+			return file == null ? 0 : file.length();
+		} catch (GdxRuntimeException e){
+			return 0;
+		}
+	}
+
+	private static long fontFileModified( FreeTypeFontGenerator generator ){
+		FileHandle file = fontFiles.get(generator);
+		try {
+			return file == null ? 0 : file.lastModified();
+		} catch (GdxRuntimeException e){
+			return 0;
+		}
+	}
+
+	private static ArrayList<BitmapFont.Glyph> glyphsIn( BitmapFont font ){
+		ArrayList<BitmapFont.Glyph> result = new ArrayList<>();
+		for (BitmapFont.Glyph[] page : font.getData().glyphs){
+			if (page == null) continue;
+			for (BitmapFont.Glyph glyph : page){
+				if (glyph != null) result.add(glyph);
+			}
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void loadFontCache( FreeTypeFontGenerator generator, int key, BitmapFont font ){
+		String file = fontCacheFile(generator, key);
+		if (!FileUtils.fileExists(file)){
+			cachedGlyphCounts.put(font, glyphsIn(font).size());
+			return;
+		}
+
+		FreeTypeFontGenerator.FreeTypeBitmapFontData data = (FreeTypeFontGenerator.FreeTypeBitmapFontData) font.getData();
+		ArrayList<BitmapFont.Glyph> loaded = new ArrayList<>();
+
+		//glyphs generated along with the font (e.g. the missing glyph) are kept
+		HashSet<Integer> existing = new HashSet<>();
+		for (BitmapFont.Glyph glyph : glyphsIn(font)){
+			existing.add(glyph.id);
+		}
+
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(FileUtils.getFileHandle(file).read())));
+
+			//glyphs from other game versions or font files are discarded, in case fonts have changed
+			if (in.readInt() == FONT_CACHE_FORMAT
+					&& in.readInt() == Game.versionCode
+					&& in.readLong() == fontFileLength(generator)
+					&& in.readLong() == fontFileModified(generator)) {
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					BitmapFont.Glyph glyph = new BitmapFont.Glyph();
+					glyph.id = in.readChar();
+					glyph.width = in.readShort();
+					glyph.height = in.readShort();
+					glyph.xoffset = in.readShort();
+					glyph.yoffset = in.readShort();
+					glyph.xadvance = in.readShort();
+					int kernings = in.readInt();
+					for (int k = 0; k < kernings; k++) {
+						glyph.setKerning(in.readChar(), in.readByte());
+					}
+					byte[] pixels = new byte[glyph.width * glyph.height * 4];
+					in.readFully(pixels);
+
+					if (existing.contains(glyph.id)) {
+						continue;
+					}
+
+					if (pixels.length > 0) {
+						Pixmap pixmap = new Pixmap(glyph.width, glyph.height, Pixmap.Format.RGBA8888);
+						ByteBuffer buffer = pixmap.getPixels();
+						buffer.put(pixels);
+						((Buffer)buffer).position(0);
+						Rectangle rect = packer.pack(pixmap);
+						pixmap.dispose();
+						glyph.srcX = (int) rect.x;
+						glyph.srcY = (int) rect.y;
+						//packer always packs into the last page, as freetype also expects
+						glyph.page = packer.getPages().size - 1;
+					}
+					loaded.add(glyph);
+				}
 			}
-			if (size >= 20){
-				parameters.renderCount = 2;
-			} else {
-				parameters.renderCount = 3;
+		} catch (IOException | GdxRuntimeException e) {
+			//any glyphs that didn't load will be rendered as normal
+			loaded.clear();
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					//do nothing
+				}
 			}
-			parameters.hinting = FreeTypeFontGenerator.Hinting.None;
-			parameters.spaceX = -(int) parameters.borderWidth;
-			parameters.incremental = true;
-			parameters.characters = "�";
-			parameters.packer = packer;
+		}
 
+		if (!loaded.isEmpty()) {
+			packer.updateTextureRegions(data.regions, Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+
+			//freetype also tracks its generated glyphs, to work out kerning for new ones
+			Array<BitmapFont.Glyph> generated = null;
 			try {
-				BitmapFont font = generator.generateFont(parameters);
-				font.getData().missingGlyph = font.getData().getGlyph('�');
-				fonts.get(generator).put(key, font);
-			} catch ( Exception e ){
+				Field glyphsField = ClassReflection.getDeclaredField(FreeTypeFontGenerator.FreeTypeBitmapFontData.class, "glyphs");
+				glyphsField.setAccessible(true);
+				generated = (Array<BitmapFont.Glyph>) glyphsField.get(data);
+			} catch (ReflectionException e) {
 				Game.reportException(e);
-				return null;
+			}
+
+			for (BitmapFont.Glyph glyph : loaded) {
+				data.setGlyphRegion(glyph, data.regions.get(glyph.page));
+				data.setGlyph(glyph.id, glyph);
+				if (generated != null) generated.add(glyph);
 			}
 		}
 
-		return fonts.get(generator).get(key);
+		cachedGlyphCounts.put(font, glyphsIn(font).size());
+	}
+
+	//saves any fonts which have rendered new glyphs since they were last loaded or saved
+	public void saveFontCache(){
+		if (fonts == null || packer == null) return;
+
+		HashMap<FreeTypeFontGenerator, HashMap<Integer, BitmapFont>> toSave = new HashMap<>();
+		synchronized (fontsLock) {
+			for (FreeTypeFontGenerator generator : fonts.keySet()) {
+				toSave.put(generator, new HashMap<>(fonts.get(generator)));
+			}
+		}
+
+		for (FreeTypeFontGenerator generator : toSave.keySet()) {
+			for (int key : toSave.get(generator).keySet()) {
+				BitmapFont font = toSave.get(generator).get(key);
+				ArrayList<BitmapFont.Glyph> glyphs = glyphsIn(font);
+				synchronized (fontsLock) {
+					Integer cachedCount = cachedGlyphCounts.get(font);
+					if (cachedCount != null && cachedCount >= glyphs.size()) {
+						continue;
+					}
+					cachedGlyphCounts.put(font, glyphs.size());
+				}
+
+				try {
+					//glyph data is copied now, then compressed and written in the background
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+					DataOutputStream out = new DataOutputStream(bytes);
+
+					out.writeInt(FONT_CACHE_FORMAT);
+					out.writeInt(Game.versionCode);
+					out.writeLong(fontFileLength(generator));
+					out.writeLong(fontFileModified(generator));
+					int count = Math.min(glyphs.size(), MAX_CACHED_GLYPHS);
+					out.writeInt(count);
+					for (int i = 0; i < count; i++) {
+						BitmapFont.Glyph glyph = glyphs.get(i);
+						out.writeChar(glyph.id);
+						out.writeShort(glyph.width);
+						out.writeShort(glyph.height);
+						out.writeShort(glyph.xoffset);
+						out.writeShort(glyph.yoffset);
+						out.writeShort(glyph.xadvance);
+
+						int kernings = 0;
+						if (glyph.kerning != null) {
+							for (byte[] page : glyph.kerning) {
+								if (page == null) continue;
+								for (byte b : page) if (b != 0) kernings++;
+							}
+						}
+						out.writeInt(kernings);
+						if (kernings > 0) {
+							for (int p = 0; p < glyph.kerning.length; p++) {
+								byte[] page = glyph.kerning[p];
+								if (page == null) continue;
+								for (int c = 0; c < page.length; c++) {
+									if (page[c] != 0) {
+										out.writeChar(p * page.length + c);
+										out.writeByte(page[c]);
+									}
+								}
+							}
+						}
+
+						if (glyph.width > 0 && glyph.height > 0) {
+							Pixmap pageImage = packer.getPages().get(glyph.page).getPixmap();
+							ByteBuffer pixels = pageImage.getPixels().duplicate();
+							byte[] row = new byte[glyph.width * 4];
+							for (int y = 0; y < glyph.height; y++) {
+								((Buffer)pixels).position(((glyph.srcY + y) * pageImage.getWidth() + glyph.srcX) * 4);
+								pixels.get(row);
+								out.write(row);
+							}
+						}
+					}
+					out.close();
+
+					writeFontCache(fontCacheFile(generator, key), bytes.toByteArray());
+				} catch (IOException e) {
+					Game.reportException(e);
+				}
+			}
+		}
+	}
+
+	//cache files waiting to be written, only the newest data for each is kept
+	private static final LinkedHashMap<String, byte[]> pendingFontWrites = new LinkedHashMap<>();
+	private static Thread fontWriter = null;
+
+	//cache files are written by a single background thread, one at a time
+	private static void writeFontCache( String file, byte[] data ){
+		synchronized (pendingFontWrites) {
+			pendingFontWrites.put(file, data);
+			if (fontWriter == null) {
+				fontWriter = new Thread() {
+					@Override
+					public void run() {
+						writePendingFontCaches();
+					}
+				};
+				fontWriter.start();
+			}
+		}
+	}
+
+	private static void writePendingFontCaches(){
+		while (true) {
+			String file;
+			byte[] data;
+			synchronized (pendingFontWrites) {
+				if (pendingFontWrites.isEmpty()) {
+					fontWriter = null;
+					return;
+				}
+				file = pendingFontWrites.keySet().iterator().next();
+				data = pendingFontWrites.remove(file);
+			}
+
+			//written to a temp file first, so an interrupted write can't leave a broken cache
+			FileHandle temp = FileUtils.getFileHandle(file + ".tmp");
+			OutputStream out = null;
+			try {
+				out = new GZIPOutputStream(temp.write(false));
+				out.write(data);
+				out.close();
+				out = null;
+				temp.moveTo(FileUtils.getFileHandle(file));
+			} catch (IOException | GdxRuntimeException e) {
+				Game.reportException(e);
+			} finally {
+				if (out != null) {
+					try {
+						out.close();
+					} catch (IOException e) {
+						//do nothing
+					}
+				}
+			}
+		}
 	}
 
 }
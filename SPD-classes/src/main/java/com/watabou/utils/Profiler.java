@@ -0,0 +1,212 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.watabou.utils;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.watabou.noosa.Game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+//Lightweight timing of named scopes and counting of rendering work, recorded per frame.
+//Scopes are timed like so:
+//	long start = Profiler.begin();
+//	...
+//	Profiler.end( "Scope.name", start );
+//Everything does nothing while profiling is disabled, so instrumented code costs almost nothing normally.
+public class Profiler {
+
+	private static volatile boolean enabled = false;
+
+	//counters, these should only be incremented from the render thread
+	public static final int DRAW_CALLS      = 0;
+	public static final int TEXTURE_BINDS   = 1;
+	public static final int VERTEX_UPLOADS  = 2;
+	//game logic steps completed during the frame, reported by the render thread on behalf of the game
+	public static final int LOGIC_STEPS     = 3;
+	private static final String[] COUNTER_NAMES = {"draw calls", "texture binds", "vertex uploads", "logic steps"};
+
+	//how many of the most recent frames are kept
+	public static final int FRAMES = 300;
+	private static final int MAX_SCOPES = 64;
+
+	private static final ArrayList<String> scopeNames = new ArrayList<>();
+	private static final HashMap<String, Integer> scopeIndexes = new HashMap<>();
+
+	//ring buffers, indexed by frame % FRAMES
+	private static final long[] frameTimes = new long[FRAMES];
+	private static final long[] heapUsed = new long[FRAMES];
+	private static final long[][] scopeTimes = new long[FRAMES][MAX_SCOPES];
+	private static final int[][] counts = new int[FRAMES][COUNTER_NAMES.length];
+
+	//the frame currently being recorded, and how many complete frames are stored
+	private static int frame = 0;
+	private static int recorded = 0;
+	private static long frameStart = 0;
+
+	public static synchronized void enable( boolean value ){
+		if (value && !enabled){
+			for (int i = 0; i < FRAMES; i++){
+				Arrays.fill(scopeTimes[i], 0);
+				Arrays.fill(counts[i], 0);
+			}
+			frame = recorded = 0;
+			frameStart = System.nanoTime();
+		}
+		enabled = value;
+	}
+
+	public static boolean enabled(){
+		return enabled;
+	}
+
+	public static long begin(){
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	//scopes may end on any thread, their time is added to the frame which is being recorded
+	public static void end( String scope, long start ){
+		//start is 0 if profiling was enabled while the scope was running
+		if (!enabled || start == 0){
+			return;
+		}
+		long time = System.nanoTime() - start;
+		synchronized (Profiler.class) {
+			int index = scopeIndex( scope );
+			if (index != -1) {
+				scopeTimes[frame % FRAMES][index] += time;
+			}
+		}
+	}
+
+	private static int scopeIndex( String scope ){
+		Integer index = scopeIndexes.get( scope );
+		if (index == null){
+			if (scopeNames.size() == MAX_SCOPES){
+				return -1;
+			}
+			index = scopeNames.size();
+			scopeNames.add( scope );
+			scopeIndexes.put( scope, index );
+		}
+		return index;
+	}
+
+	public static void count( int counter ){
+		count( counter, 1 );
+	}
+
+	public static void count( int counter, int amount ){
+		if (enabled) {
+			counts[frame % FRAMES][counter] += amount;
+		}
+	}
+
+	//should be called by the render thread at the start of each frame
+	public static synchronized void nextFrame(){
+		if (!enabled){
+			return;
+		}
+
+		long now = System.nanoTime();
+		int slot = frame % FRAMES;
+		frameTimes[slot] = now - frameStart;
+		Runtime runtime = Runtime.getRuntime();
+		heapUsed[slot] = runtime.totalMemory() - runtime.freeMemory();
+		frameStart = now;
+
+		frame++;
+		recorded = Math.min(recorded + 1, FRAMES);
+		slot = frame % FRAMES;
+		Arrays.fill(scopeTimes[slot], 0);
+		Arrays.fill(counts[slot], 0);
+	}
+
+	// reading results
+	// frames are referred to by how many frames ago they were completed, 0 being the latest
+
+	public static synchronized int recordedFrames(){
+		return recorded;
+	}
+
+	private static int slot( int framesAgo ){
+		return (frame - 1 - framesAgo + FRAMES) % FRAMES;
+	}
+
+	//total time between the start of the frame and the start of the next, in nanoseconds
+	public static synchronized long frameTime( int framesAgo ){
+		return frameTimes[slot( framesAgo )];
+	}
+
+	public static synchronized long heapUsed( int framesAgo ){
+		return heapUsed[slot( framesAgo )];
+	}
+
+	public static synchronized int counter( int counter, int framesAgo ){
+		return counts[slot( framesAgo )][counter];
+	}
+
+	public static synchronized ArrayList<String> scopes(){
+		return new ArrayList<>( scopeNames );
+	}
+
+	public static synchronized long scopeTime( String scope, int framesAgo ){
+		Integer index = scopeIndexes.get( scope );
+		return index == null ? 0 : scopeTimes[slot( framesAgo )][index];
+	}
+
+	//writes all recorded frames, oldest first, to a CSV file. Times are in milliseconds
+	public static synchronized void dumpCSV( String fileName ){
+		StringBuilder csv = new StringBuilder();
+		csv.append("frame,frame ms,heap bytes");
+		for (String name : COUNTER_NAMES){
+			csv.append(',').append(name);
+		}
+		for (String name : scopeNames){
+			csv.append(',').append(name).append(" ms");
+		}
+		csv.append('\n');
+
+		for (int ago = recorded - 1; ago >= 0; ago--){
+			int slot = slot( ago );
+			csv.append(frame - 1 - ago);
+			csv.append(',').append(frameTimes[slot] / 1_000_000f);
+			csv.append(',').append(heapUsed[slot]);
+			for (int i = 0; i < COUNTER_NAMES.length; i++){
+				csv.append(',').append(counts[slot][i]);
+			}
+			for (int i = 0; i < scopeNames.size(); i++){
+				csv.append(',').append(scopeTimes[slot][i] / 1_000_000f);
+			}
+			csv.append('\n');
+		}
+
+		try {
+			FileUtils.getFileHandle( fileName ).writeString( csv.toString(), false );
+		} catch (GdxRuntimeException e){
+			Game.reportException(e);
+		}
+	}
+
+}
@@ -250,4 +250,36 @@ public class Random {
 			}
 		}
 	}
+
+	//visual effects (particles, animations, etc.) draw from their own generator instead of the stack above.
+	//How many numbers they use depends on frame timing, so this keeps them from changing gameplay outcomes
+	public static class Visual {
+
+		private static final java.util.Random generator = new java.util.Random();
+
+		//returns a uniformly distributed float in the range [0, 1)
+		public static float Float() {
+			return generator.nextFloat();
+		}
+
+		//returns a uniformly distributed float in the range [0, max)
+		public static float Float( float max ) {
+			return Float() * max;
+		}
+
+		//returns a uniformly distributed float in the range [min, max)
+		public static float Float( float min, float max ) {
+			return min + Float(max - min);
+		}
+
+		//returns a uniformly distributed int in the range [0, max)
+		public static int Int( int max ) {
+			return max > 0 ? generator.nextInt(max) : 0;
+		}
+
+		//returns a uniformly distributed int in the range [min, max]
+		public static int IntRange( int min, int max ) {
+			return min + Int(max - min + 1);
+		}
+	}
 }
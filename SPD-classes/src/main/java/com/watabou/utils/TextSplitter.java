@@ -0,0 +1,87 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.watabou.utils;
+
+//splits text into tokens for text blocks.
+//This is equivalent to splitting with a regex of zero-width lookbehinds/lookaheads on each
+// splitting character, e.g. "(?<=_)|(?=_)", but is done in one pass without any regex matching.
+public class TextSplitter {
+
+	private final boolean splitFullwidthForms;
+
+	//reused between calls to avoid allocating, holds the start index of each token
+	private int[] tokenStarts = new int[64];
+
+	//some platforms' fonts also need halfwidth and fullwidth forms to be split
+	public TextSplitter( boolean splitFullwidthForms ){
+		this.splitFullwidthForms = splitFullwidthForms;
+	}
+
+	//splitSpaces additionally makes each space its own token, so words can be arranged individually
+	public synchronized String[] split( String text, boolean splitSpaces ){
+		int length = text.length();
+		if (length == 0){
+			return new String[]{text};
+		}
+
+		int tokens = 0;
+		tokenStarts[tokens++] = 0;
+
+		boolean prevSplits = splitsAt(text.charAt(0), splitSpaces);
+		for (int i = 1; i < length; i++){
+			boolean splits = splitsAt(text.charAt(i), splitSpaces);
+			if (prevSplits || splits){
+				if (tokens == tokenStarts.length){
+					int[] bigger = new int[tokens * 2];
+					System.arraycopy(tokenStarts, 0, bigger, 0, tokens);
+					tokenStarts = bigger;
+				}
+				tokenStarts[tokens++] = i;
+			}
+			prevSplits = splits;
+		}
+
+		String[] result = new String[tokens];
+		for (int i = 0; i < tokens; i++){
+			int end = i+1 < tokens ? tokenStarts[i+1] : length;
+			result[i] = text.substring(tokenStarts[i], end);
+		}
+		return result;
+	}
+
+	private boolean splitsAt( char c, boolean splitSpaces ){
+		if (c < 0x3000){
+			//fast path for latin and most other non-asian scripts
+			return c == '\n' || c == '_' || (splitSpaces && c == ' ');
+		} else if (c <= 0x30FF){
+			//CJK symbols and punctuation, hiragana, katakana
+			return true;
+		} else if (c >= 0x4E00 && c <= 0x9FFF){
+			//CJK unified ideographs
+			return true;
+		} else {
+			return splitFullwidthForms && c >= 0xFF00 && c <= 0xFFEF;
+		}
+	}
+
+}
@@ -57,6 +57,12 @@ public class AndroidBackupHandler extends BackupAgent {
 		if (file != null){
 			fullBackupFile( file , data);
 		}
+		File rankingsDir = new File( getFilesDir(), Rankings.RANKINGS_DIR );
+		if (rankingsDir.isDirectory()){
+			for (File record : rankingsDir.listFiles()){
+				fullBackupFile( record, data );
+			}
+		}
 		file = getFile( getFilesDir(), Badges.BADGES_FILE );
 		if (file != null){
 			fullBackupFile( file , data);
@@ -40,6 +40,7 @@ import com.shatteredpixel.shatteredpixeldungeon.SPDSettings;
 import com.shatteredpixel.shatteredpixeldungeon.scenes.PixelScene;
 import com.watabou.noosa.Game;
 import com.watabou.utils.PlatformSupport;
+import com.watabou.utils.TextSplitter;
 
 import java.util.HashMap;
 import java.util.regex.Matcher;
@@ -184,6 +185,18 @@ public class AndroidPlatformSupport extends PlatformSupport {
 	
 	//special logic for handling korean android 6.0 font oddities
 	private static boolean koreanAndroid6OTF = false;
+
+	//android 7.0+ CJK fonts are one file with a typeface per language, which must be cached separately
+	private static FreeTypeFontGenerator CJKCollectionGenerator = null;
+	private static int CJKTypeFace;
+
+	@Override
+	protected String fontCacheName(FreeTypeFontGenerator generator) {
+		if (generator == CJKCollectionGenerator){
+			return super.fontCacheName(generator) + "_" + CJKTypeFace;
+		}
+		return super.fontCacheName(generator);
+	}
 	
 	@Override
 	public void setupFontGenerators(int pageSize, boolean systemfont) {
@@ -197,13 +210,14 @@ public class AndroidPlatformSupport extends PlatformSupport {
 		resetGenerators(false);
 		fonts = new HashMap<>();
 		basicFontGenerator = KRFontGenerator = SCFontGenerator = JPFontGenerator = null;
+		CJKCollectionGenerator = null;
 		
 		if (systemfont && Gdx.files.absolute("/system/fonts/Roboto-Regular.ttf").exists()) {
-			basicFontGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/Roboto-Regular.ttf"));
+			basicFontGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/Roboto-Regular.ttf"));
 		} else if (systemfont && Gdx.files.absolute("/system/fonts/DroidSans.ttf").exists()){
-			basicFontGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/DroidSans.ttf"));
+			basicFontGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/DroidSans.ttf"));
 		} else {
-			basicFontGenerator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/pixel_font.ttf"));
+			basicFontGenerator = fontGenerator(Gdx.files.internal("fonts/pixel_font.ttf"));
 		}
 		
 		//android 7.0+. all asian fonts are nicely contained in one spot
@@ -221,35 +235,37 @@ public class AndroidPlatformSupport extends PlatformSupport {
 				default:
 					typeFace = 2;
 			}
-			KRFontGenerator = SCFontGenerator = JPFontGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/NotoSansCJK-Regular.ttc"), typeFace);
+			KRFontGenerator = SCFontGenerator = JPFontGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/NotoSansCJK-Regular.ttc"), typeFace);
+			CJKCollectionGenerator = KRFontGenerator;
+			CJKTypeFace = typeFace;
 			
 		//otherwise we have to go over a few possibilities.
 		} else {
 			
 			//Korean font generators
 			if (Gdx.files.absolute("/system/fonts/NanumGothic.ttf").exists()){
-				KRFontGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/NanumGothic.ttf"));
+				KRFontGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/NanumGothic.ttf"));
 			} else if (Gdx.files.absolute("/system/fonts/NotoSansKR-Regular.otf").exists()){
-				KRFontGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/NotoSansKR-Regular.otf"));
+				KRFontGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/NotoSansKR-Regular.otf"));
 				koreanAndroid6OTF = true;
 			}
 			
 			//Chinese font generators
 			if (Gdx.files.absolute("/system/fonts/NotoSansSC-Regular.otf").exists()){
-				SCFontGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/NotoSansSC-Regular.otf"));
+				SCFontGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/NotoSansSC-Regular.otf"));
 			} else if (Gdx.files.absolute("/system/fonts/NotoSansHans-Regular.otf").exists()){
-				SCFontGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/NotoSansHans-Regular.otf"));
+				SCFontGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/NotoSansHans-Regular.otf"));
 			}
 			
 			//Japaneses font generators
 			if (Gdx.files.absolute("/system/fonts/NotoSansJP-Regular.otf").exists()){
-				JPFontGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/NotoSansJP-Regular.otf"));
+				JPFontGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/NotoSansJP-Regular.otf"));
 			}
 			
 			//set up a fallback generator for any remaining fonts
 			FreeTypeFontGenerator fallbackGenerator;
 			if (Gdx.files.absolute("/system/fonts/DroidSansFallback.ttf").exists()){
-				fallbackGenerator = new FreeTypeFontGenerator(Gdx.files.absolute("/system/fonts/DroidSansFallback.ttf"));
+				fallbackGenerator = fontGenerator(Gdx.files.absolute("/system/fonts/DroidSansFallback.ttf"));
 			} else {
 				//no fallback font, just set to null =/
 				fallbackGenerator = null;
@@ -288,22 +304,8 @@ public class AndroidPlatformSupport extends PlatformSupport {
 	}
 	
 	//splits on newlines, underscores, and chinese/japaneses characters
-	private Pattern regularsplitter = Pattern.compile(
-			"(?<=\n)|(?=\n)|(?<=_)|(?=_)|" +
-					"(?<=\\p{InHiragana})|(?=\\p{InHiragana})|" +
-					"(?<=\\p{InKatakana})|(?=\\p{InKatakana})|" +
-					"(?<=\\p{InCJK_Unified_Ideographs})|(?=\\p{InCJK_Unified_Ideographs})|" +
-					"(?<=\\p{InCJK_Symbols_and_Punctuation})|(?=\\p{InCJK_Symbols_and_Punctuation})|" +
-					"(?<=\\p{InHalfwidth_and_Fullwidth_Forms})|(?=\\p{InHalfwidth_and_Fullwidth_Forms})");
-	
-	//additionally splits on words, so that each word can be arranged individually
-	private Pattern regularsplitterMultiline = Pattern.compile(
-			"(?<= )|(?= )|(?<=\n)|(?=\n)|(?<=_)|(?=_)|" +
-					"(?<=\\p{InHiragana})|(?=\\p{InHiragana})|" +
-					"(?<=\\p{InKatakana})|(?=\\p{InKatakana})|" +
-					"(?<=\\p{InCJK_Unified_Ideographs})|(?=\\p{InCJK_Unified_Ideographs})|" +
-					"(?<=\\p{InCJK_Symbols_and_Punctuation})|(?=\\p{InCJK_Symbols_and_Punctuation})|" +
-					"(?<=\\p{InHalfwidth_and_Fullwidth_Forms})|(?=\\p{InHalfwidth_and_Fullwidth_Forms})");
+	//also splits on spaces for multiline text, so that each word can be arranged individually
+	private TextSplitter textSplitter = new TextSplitter( true );
 	
 	//splits on each non-hangul character. Needed for weird android 6.0 font files
 	private Pattern android6KRSplitter = Pattern.compile(
@@ -314,10 +316,8 @@ public class AndroidPlatformSupport extends PlatformSupport {
 	public String[] splitforTextBlock(String text, boolean multiline) {
 		if (koreanAndroid6OTF && getGeneratorForString(text) == KRFontGenerator){
 			return android6KRSplitter.split(text);
-		} else if (multiline) {
-			return regularsplitterMultiline.split(text);
 		} else {
-			return regularsplitter.split(text);
+			return textSplitter.split(text, multiline);
 		}
 	}
 	
@@ -0,0 +1,157 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.shatteredpixel.shatteredpixeldungeon.benchmarks;
+
+import com.shatteredpixel.shatteredpixeldungeon.levels.Terrain;
+import com.watabou.utils.BArray;
+import com.watabou.utils.BitGrid;
+import com.watabou.utils.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+//Compares the packed BitGrid against the boolean[] operations in BArray, on square maps
+//from the size of a boss arena up to well beyond the largest regular level
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BitGridBenchmark {
+
+	@Param({"32", "64", "128", "200"})
+	public int size;
+
+	private int[] map;
+
+	private boolean[] a;
+	private boolean[] b;
+	private boolean[] result;
+
+	private BitGrid gridA;
+	private BitGrid gridB;
+	private BitGrid gridResult;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setup(){
+		Random.pushGenerator( size );
+
+		int[] terrains = new int[]{ Terrain.EMPTY, Terrain.WALL, Terrain.DOOR, Terrain.WATER, Terrain.GRASS };
+
+		int length = size * size;
+		map = new int[length];
+		a = new boolean[length];
+		b = new boolean[length];
+		result = new boolean[length];
+		for (int i = 0; i < length; i++){
+			map[i] = terrains[Random.Int( terrains.length )];
+			a[i] = Random.Int( 2 ) == 0;
+			b[i] = Random.Int( 4 ) == 0;
+		}
+
+		Random.popGenerator();
+
+		gridA = BitGrid.fromArray( a, size );
+		gridB = BitGrid.fromArray( b, size );
+		gridResult = new BitGrid( size, size );
+	}
+
+	@Benchmark
+	public boolean[] bArrayAnd(){
+		return BArray.and( a, b, result );
+	}
+
+	@Benchmark
+	public BitGrid bitGridAnd(){
+		gridResult.copy( gridA );
+		return gridResult.and( gridB );
+	}
+
+	@Benchmark
+	public boolean[] bArrayOr(){
+		return BArray.or( a, b, result );
+	}
+
+	@Benchmark
+	public BitGrid bitGridOr(){
+		gridResult.copy( gridA );
+		return gridResult.or( gridB );
+	}
+
+	@Benchmark
+	public boolean[] bArrayNot(){
+		return BArray.not( a, result );
+	}
+
+	@Benchmark
+	public BitGrid bitGridNot(){
+		gridResult.copy( gridA );
+		return gridResult.not();
+	}
+
+	@Benchmark
+	public boolean[] bArrayIsOneOf(){
+		return BArray.isOneOf( map, result, Terrain.EMPTY, Terrain.DOOR, Terrain.GRASS );
+	}
+
+	@Benchmark
+	public BitGrid bitGridIsOneOf(){
+		return gridResult.isOneOf( map, Terrain.EMPTY, Terrain.DOOR, Terrain.GRASS );
+	}
+
+	@Benchmark
+	public int bArrayCardinality(){
+		int count = 0;
+		for (boolean cell : a){
+			if (cell) count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int bitGridCardinality(){
+		return gridA.cardinality();
+	}
+
+	//what Dungeon.findPassable does, once as boolean[] and once through a BitGrid.
+	//The pathfinder takes a boolean[], so the grid has to be converted in and out
+	@Benchmark
+	public boolean[] bArrayPassable(){
+		BArray.or( a, b, result );
+		return BArray.and( result, a, result );
+	}
+
+	@Benchmark
+	public boolean[] bitGridPassable(){
+		gridResult.fromArray( a );
+		gridB.fromArray( b );
+		gridResult.or( gridB ).and( gridA );
+		return gridResult.toArray( result );
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.shatteredpixel.shatteredpixeldungeon.benchmarks;
+
+import com.shatteredpixel.shatteredpixeldungeon.Dungeon;
+import com.shatteredpixel.shatteredpixeldungeon.levels.Level;
+import com.shatteredpixel.shatteredpixeldungeon.mechanics.Ballistica;
+import com.shatteredpixel.shatteredpixeldungeon.mechanics.ConeAOE;
+import com.watabou.utils.GameMath;
+import com.watabou.utils.Point;
+import com.watabou.utils.PointF;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+
+//Compares ConeAOE against the original implementation, which cast a new ballistica for every ray.
+//Setup first checks that both produce the same cones for a spread of origins, angles, and ranges
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConeAOEBenchmark {
+
+	@Param({"2", "12", "22"})
+	public int depth;
+
+	//the cone sizes used by dragon's breath, wand of fireblast, and elemental blast
+	private static final float[] DEGREES = {30, 60, 90, 180, 360};
+	private static final float[] MAX_DISTS = {Float.POSITIVE_INFINITY, 4, 6};
+	private static final int[] PARAMS = {
+			Ballistica.STOP_SOLID | Ballistica.STOP_TARGET | Ballistica.IGNORE_SOFT_SOLID,
+			Ballistica.PROJECTILE,
+			Ballistica.MAGIC_BOLT,
+			Ballistica.WONT_STOP
+	};
+
+	private ArrayList<Ballistica> aims = new ArrayList<>();
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setup(){
+		HeadlessDungeon.setup();
+		Level level = HeadlessDungeon.newLevel( depth );
+		aims = aims( level );
+		checkParity( aims );
+	}
+
+	//aims from a spread of passable cells, in eight directions and at several ranges
+	public static ArrayList<Ballistica> aims( Level level ){
+		ArrayList<Ballistica> result = new ArrayList<>();
+		int origins = 0;
+		for (int cell = 0; cell < level.length() && origins < 24; cell += 13){
+			if (!level.passable[cell]) continue;
+			origins++;
+			for (int dx = -1; dx <= 1; dx++){
+				for (int dy = -1; dy <= 1; dy++){
+					if (dx == 0 && dy == 0) continue;
+					for (int range = 2; range <= 8; range += 3){
+						int x = (int)GameMath.gate(0, cell % level.width() + dx*range, level.width()-1);
+						int y = (int)GameMath.gate(0, cell / level.width() + dy*range, level.height()-1);
+						result.add(new Ballistica(cell, x + y*level.width(), Ballistica.WONT_STOP));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	//throws if any cone differs from the original implementation, returns the number of cones checked
+	public static int checkParity( ArrayList<Ballistica> aims ){
+		int checked = 0;
+		for (Ballistica aim : aims){
+			for (float degrees : DEGREES){
+				for (float maxDist : MAX_DISTS){
+					for (int params : PARAMS){
+						ConeAOE cone = new ConeAOE(aim, maxDist, degrees, params);
+						OriginalConeAOE original = new OriginalConeAOE(aim, maxDist, degrees, params);
+
+						String description = aim.sourcePos + " -> " + aim.collisionPos + ", " + degrees + " degrees, max distance " + maxDist + ", params " + params;
+						if (!cone.cells.equals(original.cells)){
+							throw new IllegalStateException("Cone cells differ for " + description);
+						}
+						if (!sameRays(cone.outerRays, original.outerRays)){
+							throw new IllegalStateException("Outer rays differ for " + description);
+						}
+						if (!sameRays(cone.rays(), original.rays)){
+							throw new IllegalStateException("Rays differ for " + description);
+						}
+						checked++;
+					}
+				}
+			}
+		}
+		return checked;
+	}
+
+	private static boolean sameRays( ArrayList<Ballistica> a, ArrayList<Ballistica> b ){
+		if (a.size() != b.size()) return false;
+		for (int i = 0; i < a.size(); i++){
+			if (a.get(i).collisionPos != b.get(i).collisionPos
+					|| a.get(i).dist != b.get(i).dist
+					|| !a.get(i).path.equals(b.get(i).path)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Benchmark
+	public int cones(){
+		int cells = 0;
+		for (Ballistica aim : aims){
+			cells += new ConeAOE(aim, 6, 60, PARAMS[0]).cells.size();
+		}
+		return cells;
+	}
+
+	@Benchmark
+	public int originalCones(){
+		int cells = 0;
+		for (Ballistica aim : aims){
+			cells += new OriginalConeAOE(aim, 6, 60, PARAMS[0]).cells.size();
+		}
+		return cells;
+	}
+
+	//ConeAOE as it was before cells were collected into a bitset and inner rays shared a ballistica
+	private static class OriginalConeAOE {
+
+		public ArrayList<Ballistica> outerRays = new ArrayList<>();
+		public ArrayList<Ballistica> rays = new ArrayList<>();
+		public HashSet<Integer> cells = new HashSet<>();
+
+		public OriginalConeAOE( Ballistica core, float maxDist, float degrees, int ballisticaParams ){
+
+			PointF fromP = new PointF(Dungeon.level.cellToPoint(core.sourcePos));
+			fromP.x += 0.5f;
+			fromP.y += 0.5f;
+
+			PointF toP = new PointF(Dungeon.level.cellToPoint(core.collisionPos));
+			toP.x += 0.5f;
+			toP.y += 0.5f;
+
+			if (PointF.distance(fromP, toP) > maxDist){
+				toP = PointF.inter(fromP, toP, maxDist/PointF.distance(fromP, toP) );
+			}
+
+			float circleRadius = PointF.distance(fromP, toP);
+			circleRadius += 0.5f;
+
+			PointF scan = new PointF();
+			Point scanInt = new Point();
+			float initalAngle = PointF.angle(fromP, toP)/PointF.G2R;
+			LinkedHashSet<Integer> targetCells = new LinkedHashSet<>();
+			LinkedHashSet<Integer> outerCells = new LinkedHashSet<>();
+
+			for (float a = initalAngle+degrees/2f; a >= initalAngle-degrees/2f; a-=0.5f){
+				scan.polar(a * PointF.G2R, circleRadius);
+				scan.offset(fromP);
+				scan.x += (fromP.x > scan.x ? +0.5f : -0.5f);
+				scan.y += (fromP.y > scan.y ? +0.5f : -0.5f);
+				scanInt.set(
+						(int)GameMath.gate(0, (int)Math.floor(scan.x), Dungeon.level.width()-1),
+						(int)GameMath.gate(0, (int)Math.floor(scan.y), Dungeon.level.height()-1));
+				targetCells.add(Dungeon.level.pointToCell(scanInt));
+				outerCells.add(Dungeon.level.pointToCell(scanInt));
+				if (circleRadius >= 4) {
+					scan.polar(a * PointF.G2R, circleRadius - 1);
+					scan.offset(fromP);
+					scan.x += (fromP.x > scan.x ? +0.5f : -0.5f);
+					scan.y += (fromP.y > scan.y ? +0.5f : -0.5f);
+					scanInt.set(
+							(int)GameMath.gate(0, (int)Math.floor(scan.x), Dungeon.level.width()-1),
+							(int)GameMath.gate(0, (int)Math.floor(scan.y), Dungeon.level.height()-1));
+					targetCells.add(Dungeon.level.pointToCell(scanInt));
+				}
+			}
+
+			for( int c : targetCells ){
+				Ballistica ray = new Ballistica(core.sourcePos, c, ballisticaParams);
+				cells.addAll(ray.subPath(1, ray.dist));
+				rays.add(ray);
+				if (outerCells.contains(c)){
+					outerRays.add(ray);
+				}
+			}
+		}
+
+	}
+
+}
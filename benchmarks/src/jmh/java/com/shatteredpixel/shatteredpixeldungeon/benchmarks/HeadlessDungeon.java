@@ -0,0 +1,108 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.shatteredpixel.shatteredpixeldungeon.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.shatteredpixel.shatteredpixeldungeon.Dungeon;
+import com.shatteredpixel.shatteredpixeldungeon.GamesInProgress;
+import com.shatteredpixel.shatteredpixeldungeon.SPDSettings;
+import com.shatteredpixel.shatteredpixeldungeon.actors.hero.HeroClass;
+import com.shatteredpixel.shatteredpixeldungeon.journal.Document;
+import com.shatteredpixel.shatteredpixeldungeon.levels.Level;
+import com.shatteredpixel.shatteredpixeldungeon.messages.Languages;
+import com.shatteredpixel.shatteredpixeldungeon.messages.Messages;
+import com.watabou.noosa.Game;
+import com.watabou.noosa.Scene;
+import com.watabou.utils.FileUtils;
+import com.watabou.utils.PathFinder;
+
+//Sets up just enough of libGDX and the game to run dungeon logic with no window or rendering.
+//Runs always use the same seed, so every benchmark iteration works on identical dungeons.
+public class HeadlessDungeon {
+
+	public static final String SEED = "benchmark";
+
+	//save slot used by benchmarks, files go in the benchmark's working directory
+	public static final int SLOT = 1;
+
+	private static boolean initialized = false;
+
+	public static synchronized void setup(){
+		if (initialized){
+			return;
+		}
+
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		//the application loop is never used, benchmarks call into game logic directly
+		config.updatesPerSecond = -1;
+		config.preferencesDirectory = "build/benchmark/prefs/";
+		new HeadlessApplication( new ApplicationAdapter(){}, config );
+
+		//actors check with the game that no scene change is pending before acting, there never is one here
+		new Game( Scene.class, null ){
+			{
+				requestedReset = false;
+			}
+		};
+
+		//these are passed in by the build script, as with the desktop debug task
+		Game.version = System.getProperty( "Specification-Version" );
+		Game.versionCode = Integer.parseInt( System.getProperty( "Implementation-Version" ) );
+		FileUtils.setDefaultFileProperties( Files.FileType.Local, "build/benchmark/" );
+		Messages.setup( Languages.ENGLISH );
+
+		//levels drop journal pages which haven't been found yet, and finding one changes how later runs
+		//generate. All pages are marked as found up front so that every run generates the same way
+		for (Document doc : Document.values()){
+			for (String page : doc.pageNames()){
+				doc.findPage( page );
+			}
+		}
+
+		initialized = true;
+	}
+
+	public static void newGame( HeroClass cl ){
+		Dungeon.daily = Dungeon.dailyReplay = false;
+		SPDSettings.customSeed( SEED );
+		SPDSettings.challenges( 0 );
+		GamesInProgress.selectedClass = cl;
+		GamesInProgress.curSlot = SLOT;
+		Dungeon.init();
+	}
+
+	//generates the given floor of a fresh run, and makes it the current level
+	public static Level newLevel( int depth ){
+		newGame( HeroClass.WARRIOR );
+		Dungeon.depth = depth;
+		Level level = Dungeon.newLevel();
+		Dungeon.level = level;
+		PathFinder.setMapSize( level.width(), level.height() );
+		Dungeon.hero.pos = level.entrance();
+		return level;
+	}
+
+}
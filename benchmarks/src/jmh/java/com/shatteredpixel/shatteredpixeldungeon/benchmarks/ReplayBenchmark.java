@@ -0,0 +1,188 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.shatteredpixel.shatteredpixeldungeon.benchmarks;
+
+import com.shatteredpixel.shatteredpixeldungeon.Dungeon;
+import com.shatteredpixel.shatteredpixeldungeon.SPDSettings;
+import com.shatteredpixel.shatteredpixeldungeon.actors.Actor;
+import com.shatteredpixel.shatteredpixeldungeon.actors.hero.Hero;
+import com.shatteredpixel.shatteredpixeldungeon.actors.hero.HeroClass;
+import com.shatteredpixel.shatteredpixeldungeon.levels.Level;
+import com.shatteredpixel.shatteredpixeldungeon.levels.Terrain;
+import com.shatteredpixel.shatteredpixeldungeon.levels.traps.Trap;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
+import com.watabou.utils.FileUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//Whole turns of the game: a journal of the hero resting, searching and walking around a floor is replayed
+//through the actor loop, as the game scene would replay it but with nothing drawn. Characters have no sprites,
+//so they never wait on the renderer. Besides replays per second, this reports acts per second from every actor.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReplayBenchmark {
+
+	@Param({"2", "12", "22"})
+	public int depth;
+
+	//commands in the journal, each of them can take the hero many turns
+	private static final int COMMANDS = 100;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Acts {
+		public long acts;
+	}
+
+	private Thread actorThread;
+
+	//the journal is recorded once, by playing the floor with commands picked from a fixed seed
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void record() throws InterruptedException {
+		HeadlessDungeon.setup();
+
+		SPDSettings.recordInput( true );
+		start();
+
+		Level level = Dungeon.level;
+		Random commands = new Random( depth );
+		for (int i = 0; i < COMMANDS && waitForHero(); i++){
+			Hero hero = Dungeon.hero;
+			switch (commands.nextInt( 4 )){
+				case 0:
+					//at full health only a mob showing up would end a full rest
+					hero.rest( hero.HP < hero.HT );
+					break;
+				case 1:
+					hero.search( true );
+					break;
+				default:
+					//the hero only paths through cells it knows about. Items aren't picked up, as finding
+					// some of them, such as guidebook pages, changes how later runs generate this floor
+					int cell;
+					do {
+						cell = commands.nextInt( level.length() );
+					} while (!(level.visited[cell] || level.mapped[cell]) || !level.passable[cell]
+							|| level.avoid[cell] || level.getTransition( cell ) != null
+							|| level.heaps.get( cell ) != null);
+					if (hero.handle( cell )){
+						hero.next();
+					}
+					break;
+			}
+		}
+		waitForHero();
+
+		InputJournal.save();
+		FileUtils.finishWrites();
+		SPDSettings.recordInput( false );
+		stop();
+	}
+
+	@Setup(org.openjdk.jmh.annotations.Level.Invocation)
+	public void newReplay(){
+		InputJournal.load();
+		start();
+	}
+
+	@TearDown(org.openjdk.jmh.annotations.Level.Invocation)
+	public void endReplay() throws InterruptedException {
+		stop();
+	}
+
+	@Benchmark
+	public void replay( Acts counters ){
+		long acts = Actor.actCount();
+		while (InputJournal.replaying() && waitForHero()){
+			InputJournal.replayNext();
+		}
+		counters.acts += Actor.actCount() - acts;
+	}
+
+	//starts an identical run on the benchmark's floor, and the actor thread to play it
+	private void start(){
+		HeadlessDungeon.newGame( HeroClass.WARRIOR );
+		Dungeon.depth = depth;
+		Level level = Dungeon.newLevel();
+
+		//traps could take the hero off the floor, which needs a scene to load the next one
+		for (Trap trap : level.traps.valueList()){
+			Level.set( trap.pos, Terrain.EMPTY, level );
+		}
+
+		Dungeon.switchLevel( level, level.entrance() );
+
+		//mobs which can't see the hero keep wandering rather than fighting it
+		Dungeon.hero.invisible++;
+		//and full rests last until the hero has regenerated
+		Dungeon.hero.HP = 1;
+
+		actorThread = new Thread(){
+			@Override
+			public void run() {
+				Actor.process();
+			}
+		};
+		Actor.keepActorThreadAlive = true;
+		actorThread.start();
+
+		//the floor's first turns are played before any input, so they aren't part of the replay
+		waitForHero();
+	}
+
+	private void stop() throws InterruptedException {
+		Actor.keepActorThreadAlive = false;
+		actorThread.interrupt();
+		actorThread.join();
+	}
+
+	//wakes the actor thread whenever it stops, as the game scene does each frame, until the hero needs input.
+	//Returns false if the hero died instead
+	private boolean waitForHero(){
+		while (!Dungeon.hero.ready || !Actor.processing()){
+			if (!Dungeon.hero.isAlive()){
+				return false;
+			}
+			if (!Actor.processing()){
+				synchronized (actorThread) {
+					actorThread.notify();
+				}
+			}
+			Thread.yield();
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.shatteredpixel.shatteredpixeldungeon.benchmarks;
+
+import com.shatteredpixel.shatteredpixeldungeon.Dungeon;
+import com.shatteredpixel.shatteredpixeldungeon.levels.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+//Latency of writing and reading the game and level files, as happens on every level transition
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SaveLoadBenchmark {
+
+	@Param({"2", "12", "22"})
+	public int depth;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setup() throws IOException {
+		HeadlessDungeon.setup();
+		HeadlessDungeon.newLevel( depth );
+		//so that there is something to load
+		save();
+	}
+
+	@Benchmark
+	public void save() throws IOException {
+		Dungeon.saveGame( HeadlessDungeon.SLOT );
+		Dungeon.saveLevel( HeadlessDungeon.SLOT );
+	}
+
+	@Benchmark
+	public Level load() throws IOException {
+		Dungeon.loadGame( HeadlessDungeon.SLOT );
+		Dungeon.level = Dungeon.loadLevel( HeadlessDungeon.SLOT );
+		return Dungeon.level;
+	}
+
+}
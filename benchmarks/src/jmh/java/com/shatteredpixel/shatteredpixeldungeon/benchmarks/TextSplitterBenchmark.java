@@ -0,0 +1,82 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.shatteredpixel.shatteredpixeldungeon.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.I18NBundle;
+import com.watabou.utils.TextSplitter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+//Splitting text into tokens for text blocks, compared against the regex that desktop used previously
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextSplitterBenchmark {
+
+	private static final Pattern REGEX_SPLITTER = Pattern.compile(
+			"(?<= )|(?= )|(?<=\n)|(?=\n)|(?<=_)|(?=_)|" +
+					"(?<=\\p{InHiragana})|(?=\\p{InHiragana})|" +
+					"(?<=\\p{InKatakana})|(?=\\p{InKatakana})|" +
+					"(?<=\\p{InCJK_Unified_Ideographs})|(?=\\p{InCJK_Unified_Ideographs})|" +
+					"(?<=\\p{InCJK_Symbols_and_Punctuation})|(?=\\p{InCJK_Symbols_and_Punctuation})");
+
+	//the same long text in a western language and in a CJK one
+	@Param({"en", "zh"})
+	public String language;
+
+	private String text;
+	private TextSplitter splitter;
+
+	@Setup
+	public void setup(){
+		HeadlessDungeon.setup();
+		I18NBundle bundle = I18NBundle.createBundle(
+				Gdx.files.internal( "messages/journal/journal" ),
+				Locale.forLanguageTag( language ) );
+		text = bundle.get( "journal.document.adventurers_guide.intro.body" );
+		splitter = new TextSplitter( false );
+	}
+
+	@Benchmark
+	public void textSplitter( Blackhole bh ){
+		bh.consume( splitter.split( text, true ) );
+	}
+
+	@Benchmark
+	public void regex( Blackhole bh ){
+		bh.consume( REGEX_SPLITTER.split( text ) );
+	}
+
+}
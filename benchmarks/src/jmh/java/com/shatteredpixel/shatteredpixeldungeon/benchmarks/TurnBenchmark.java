@@ -0,0 +1,73 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package com.shatteredpixel.shatteredpixeldungeon.benchmarks;
+
+import com.shatteredpixel.shatteredpixeldungeon.Dungeon;
+import com.shatteredpixel.shatteredpixeldungeon.levels.Level;
+import com.watabou.utils.BArray;
+import com.watabou.utils.PathFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+//The work that every character repeats each turn: updating its field of view and pathfinding
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TurnBenchmark {
+
+	@Param({"2", "12", "22"})
+	public int depth;
+
+	private Level level;
+	private boolean[] fieldOfView;
+	private boolean[] passable;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setup(){
+		HeadlessDungeon.setup();
+		level = HeadlessDungeon.newLevel( depth );
+		fieldOfView = new boolean[level.length()];
+		passable = BArray.not( level.solid, null );
+	}
+
+	@Benchmark
+	public boolean[] fieldOfView(){
+		level.updateFieldOfView( Dungeon.hero, fieldOfView );
+		return fieldOfView;
+	}
+
+	@Benchmark
+	public int[] distanceMap(){
+		PathFinder.buildDistanceMap( Dungeon.hero.pos, passable );
+		return PathFinder.distance;
+	}
+
+}
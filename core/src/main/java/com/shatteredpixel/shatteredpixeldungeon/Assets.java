@@ -240,6 +240,16 @@ public class Assets {
 				TELEPORT, CHARMS, MASTERY, PUFF, ROCKS, BURNING, FALLING, GHOST, SECRET, BONES,
 				BEE, DEGRADE, MIMIC, DEBUFF, CHARGEUP, GAS, CHAINS, SCAN, SHEEP, MINE
 		};
+
+		//sounds which are needed as soon as a scene appears, these are loaded ahead of the rest
+		public static final String[] title = new String[]{
+				CLICK, BADGE
+		};
+
+		public static final String[] game = new String[]{
+				CLICK, DESCEND, TELEPORT, STEP, WATER, GRASS, TRAMPLE, OPEN, UNLOCK, ITEM, GOLD, DEWDROP,
+				HIT, MISS, HIT_SLASH, HIT_STAB, HIT_CRUSH, ALERT, HEALTH_WARN, HEALTH_CRITICAL
+		};
 	}
 
 	public static class Splashes {
@@ -36,6 +36,7 @@ import com.shatteredpixel.shatteredpixeldungeon.messages.Messages;
 import com.shatteredpixel.shatteredpixeldungeon.scenes.PixelScene;
 import com.shatteredpixel.shatteredpixeldungeon.utils.GLog;
 import com.watabou.utils.Bundle;
+import com.watabou.utils.Callback;
 import com.watabou.utils.FileUtils;
 
 import java.io.IOException;
@@ -213,7 +214,7 @@ public class Badges {
 	private static HashSet<Badge> global;
 	private static HashSet<Badge> local = new HashSet<>();
 	
-	private static boolean saveNeeded = false;
+	private static volatile boolean saveNeeded = false;
 
 	public static void reset() {
 		local.clear();
@@ -300,12 +301,15 @@ public class Badges {
 			Bundle bundle = new Bundle();
 			store( bundle, global );
 			
-			try {
-				FileUtils.bundleToFile(BADGES_FILE, bundle);
-				saveNeeded = false;
-			} catch (IOException e) {
-				ShatteredPixelDungeon.reportException(e);
-			}
+			//badges are often saved alongside the journal, so this is written in the background
+			//if the write fails, the badges are saved again next time
+			saveNeeded = false;
+			FileUtils.bundleToFileLater(BADGES_FILE, bundle, new Callback() {
+				@Override
+				public void call() {
+					saveNeeded = true;
+				}
+			});
 		}
 	}
 
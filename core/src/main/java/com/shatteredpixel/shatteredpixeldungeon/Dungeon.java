@@ -76,6 +76,7 @@ import com.shatteredpixel.shatteredpixeldungeon.scenes.GameScene;
 import com.shatteredpixel.shatteredpixeldungeon.ui.QuickSlotButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Toolbar;
 import com.shatteredpixel.shatteredpixeldungeon.utils.DungeonSeed;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 import com.shatteredpixel.shatteredpixeldungeon.windows.WndResurrect;
 import com.watabou.noosa.Game;
 import com.watabou.utils.BArray;
@@ -238,6 +239,8 @@ public class Dungeon {
 			seed = DungeonSeed.randomSeed();
 		}
 
+		InputJournal.start();
+
 		Actor.clear();
 		Actor.resetNextID();
 
@@ -254,6 +257,7 @@ public class Dungeon {
 			Generator.fullReset();
 
 		Random.resetGenerators();
+		InputJournal.reseed();
 		
 		Statistics.reset();
 		Notes.reset();
@@ -713,6 +717,7 @@ public class Dungeon {
 
 			GamesInProgress.set( GamesInProgress.curSlot );
 
+			InputJournal.save();
 		}
 	}
 	
@@ -784,6 +789,8 @@ public class Dungeon {
 			
 			SpecialRoom.restoreRoomsFromBundle(bundle);
 			SecretRoom.restoreRoomsFromBundle(bundle);
+
+			InputJournal.resume();
 		}
 		
 		Bundle badges = bundle.getBundle(BADGES);
@@ -863,6 +870,7 @@ public class Dungeon {
 		}
 
 		FileUtils.overwriteFile(GamesInProgress.gameFile(save), 1);
+		FileUtils.deleteFile(GamesInProgress.previewFile(save));
 		
 		GamesInProgress.delete( save );
 	}
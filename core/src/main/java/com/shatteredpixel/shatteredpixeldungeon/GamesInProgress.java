@@ -45,6 +45,7 @@ public class GamesInProgress {
 	
 	private static final String GAME_FOLDER = "game%d";
 	private static final String GAME_FILE	= "game.dat";
+	private static final String PREVIEW_FILE	= "preview.dat";
 	private static final String DEPTH_FILE	= "depth%d.dat";
 	private static final String DEPTH_BRANCH_FILE	= "depth%d-branch%d.dat";
 	
@@ -61,6 +62,10 @@ public class GamesInProgress {
 		return gameFolder(slot) + "/" + GAME_FILE;
 	}
 	
+	public static String previewFile( int slot ){
+		return gameFolder(slot) + "/" + PREVIEW_FILE;
+	}
+	
 	public static String depthFile( int slot, int depth, int branch ) {
 		if (branch == 0) {
 			return gameFolder(slot) + "/" + Messages.format(DEPTH_FILE, depth);
@@ -77,6 +82,8 @@ public class GamesInProgress {
 	}
 	
 	public static ArrayList<Info> checkAll(){
+		loadPreviews();
+
 		ArrayList<Info> result = new ArrayList<>();
 		for (int i = 1; i <= MAX_SLOTS; i++){
 			Info curr = check(i);
@@ -99,7 +106,12 @@ public class GamesInProgress {
 			
 		} else {
 			
-			Info info;
+			Info info = readPreview( slot );
+			if (info != null){
+				slotStates.put( slot, info );
+				return info;
+			}
+
 			try {
 				
 				Bundle bundle = FileUtils.bundleFromFile(gameFile(slot));
@@ -110,6 +122,9 @@ public class GamesInProgress {
 				//saves from before v1.4.3 are not supported
 				if (info.version < ShatteredPixelDungeon.v1_4_3) {
 					info = null;
+				} else {
+					//so that the next check doesn't need to read the full game file
+					writePreview( info );
 				}
 
 			} catch (IOException e) {
@@ -130,6 +145,7 @@ public class GamesInProgress {
 		info.slot = slot;
 		
 		info.depth = Dungeon.depth;
+		info.version = Dungeon.version;
 		info.challenges = Dungeon.challenges;
 
 		info.seed = Dungeon.seed;
@@ -152,6 +168,153 @@ public class GamesInProgress {
 		info.maxDepth = Statistics.deepestFloor;
 
 		slotStates.put( slot, info );
+
+		writePreview( info );
+	}
+
+	//reads preview files for all slots which haven't been checked yet, in parallel.
+	//slots without a valid preview are left unknown, to be fully loaded by check()
+	private static void loadPreviews(){
+		final ArrayList<Integer> slots = new ArrayList<>();
+		for (int i = 1; i <= MAX_SLOTS; i++){
+			if (!slotStates.containsKey( i )) slots.add( i );
+		}
+		if (slots.size() <= 1) return;
+
+		final Info[] previews = new Info[slots.size()];
+		Thread[] readers = new Thread[slots.size()];
+		for (int i = 0; i < slots.size(); i++){
+			final int idx = i;
+			readers[i] = new Thread(){
+				@Override
+				public void run() {
+					previews[idx] = readPreview( slots.get(idx) );
+				}
+			};
+			readers[i].start();
+		}
+
+		for (int i = 0; i < slots.size(); i++){
+			try {
+				readers[i].join();
+			} catch (InterruptedException e) {
+				//preview for this slot may be missing, check() will read the full file
+			}
+			if (previews[i] != null) {
+				slotStates.put( slots.get(i), previews[i] );
+			}
+		}
+	}
+
+	private static final String DEPTH       = "depth";
+	private static final String VERSION     = "version";
+	private static final String CHALLENGES  = "challenges";
+	private static final String SEED        = "seed";
+	private static final String CUSTOM_SEED = "custom_seed";
+	private static final String DAILY       = "daily";
+	private static final String DAILY_REPLAY= "daily_replay";
+	private static final String LEVEL       = "level";
+	private static final String STR         = "str";
+	private static final String STR_BONUS   = "str_bonus";
+	private static final String EXP         = "exp";
+	private static final String HP          = "hp";
+	private static final String HT          = "ht";
+	private static final String SHLD        = "shld";
+	private static final String CLASS       = "class";
+	private static final String SUBCLASS    = "subclass";
+	private static final String ARMOR_TIER  = "armor_tier";
+	private static final String GOLD        = "gold";
+	private static final String MAX_DEPTH   = "max_depth";
+
+	//the preview is only valid for the exact game file it was written alongside
+	private static final String GAME_LENGTH = "game_length";
+	private static final String GAME_MODIFIED = "game_modified";
+
+	private static void writePreview( Info info ){
+		Bundle bundle = new Bundle();
+
+		bundle.put( DEPTH, info.depth );
+		bundle.put( VERSION, info.version );
+		bundle.put( CHALLENGES, info.challenges );
+		bundle.put( SEED, info.seed );
+		bundle.put( CUSTOM_SEED, info.customSeed );
+		bundle.put( DAILY, info.daily );
+		bundle.put( DAILY_REPLAY, info.dailyReplay );
+
+		bundle.put( LEVEL, info.level );
+		bundle.put( STR, info.str );
+		bundle.put( STR_BONUS, info.strBonus );
+		bundle.put( EXP, info.exp );
+		bundle.put( HP, info.hp );
+		bundle.put( HT, info.ht );
+		bundle.put( SHLD, info.shld );
+		bundle.put( CLASS, info.heroClass );
+		bundle.put( SUBCLASS, info.subClass );
+		bundle.put( ARMOR_TIER, info.armorTier );
+
+		bundle.put( GOLD, info.goldCollected );
+		bundle.put( MAX_DEPTH, info.maxDepth );
+
+		bundle.put( GAME_LENGTH, FileUtils.fileLength(gameFile(info.slot)) );
+		bundle.put( GAME_MODIFIED, FileUtils.fileLastModified(gameFile(info.slot)) );
+
+		try {
+			FileUtils.bundleToFile( previewFile(info.slot), bundle );
+		} catch (IOException e) {
+			//not a big deal, the full game file will be read instead
+			ShatteredPixelDungeon.reportException(e);
+		}
+	}
+
+	//returns null if there is no preview, or if it doesn't match the current game file
+	private static Info readPreview( int slot ){
+		if (!gameExists( slot ) || !FileUtils.fileExists( previewFile(slot) )){
+			return null;
+		}
+
+		try {
+			Bundle bundle = FileUtils.bundleFromFile( previewFile(slot) );
+
+			if (bundle.getLong( GAME_LENGTH ) != FileUtils.fileLength(gameFile(slot))
+					|| bundle.getLong( GAME_MODIFIED ) != FileUtils.fileLastModified(gameFile(slot))){
+				return null;
+			}
+
+			Info info = new Info();
+			info.slot = slot;
+
+			info.depth = bundle.getInt( DEPTH );
+			info.version = bundle.getInt( VERSION );
+			info.challenges = bundle.getInt( CHALLENGES );
+			info.seed = bundle.getLong( SEED );
+			info.customSeed = bundle.getString( CUSTOM_SEED );
+			info.daily = bundle.getBoolean( DAILY );
+			info.dailyReplay = bundle.getBoolean( DAILY_REPLAY );
+
+			info.level = bundle.getInt( LEVEL );
+			info.str = bundle.getInt( STR );
+			info.strBonus = bundle.getInt( STR_BONUS );
+			info.exp = bundle.getInt( EXP );
+			info.hp = bundle.getInt( HP );
+			info.ht = bundle.getInt( HT );
+			info.shld = bundle.getInt( SHLD );
+			info.heroClass = bundle.getEnum( CLASS, HeroClass.class );
+			info.subClass = bundle.getEnum( SUBCLASS, HeroSubClass.class );
+			info.armorTier = bundle.getInt( ARMOR_TIER );
+
+			info.goldCollected = bundle.getInt( GOLD );
+			info.maxDepth = bundle.getInt( MAX_DEPTH );
+
+			//saves from before v1.4.3 are not supported, let the full check handle them
+			if (info.version < ShatteredPixelDungeon.v1_4_3) {
+				return null;
+			}
+
+			return info;
+		} catch (Exception e) {
+			//fall back to reading the full game file
+			return null;
+		}
 	}
 	
 	public static void setUnknown( int slot ) {
@@ -64,6 +64,9 @@ public enum Rankings {
 	public static final int TABLE_SIZE	= 11;
 	
 	public static final String RANKINGS_FILE = "rankings.dat";
+	//game data for each record is stored separately, and only read when that record is viewed
+	public static final String RANKINGS_DIR = "rankings";
+	private static final String RECORD_FILE = RANKINGS_DIR + "/%s.dat";
 	
 	public ArrayList<Record> records;
 	public int lastRecord;
@@ -124,6 +127,7 @@ public enum Rankings {
 				return;
 			}
 
+			if (latestDaily != null) latestDaily.deleteData();
 			latestDaily = rec;
 			if (Dungeon.seed <= DungeonSeed.TOTAL_SEEDS) {
 				dailyScoreHistory.put(Dungeon.seed, rec.score);
@@ -143,10 +147,10 @@ public enum Rankings {
 		while (size > TABLE_SIZE) {
 
 			if (lastRecord == size - 1) {
-				records.remove( size - 2 );
+				records.remove( size - 2 ).deleteData();
 				lastRecord--;
 			} else {
-				records.remove( size - 1 );
+				records.remove( size - 1 ).deleteData();
 			}
 
 			size = records.size();
@@ -311,7 +315,7 @@ public enum Rankings {
 	}
 
 	public void loadGameData(Record rec){
-		Bundle data = rec.gameData;
+		Bundle data = rec.gameData();
 
 		Actor.clear();
 		Dungeon.hero = null;
@@ -345,11 +349,11 @@ public enum Rankings {
 		}
 		rec.score = calculateScore();
 
-		if (rec.gameData.contains(SEED)){
-			Dungeon.seed = rec.gameData.getLong(SEED);
-			Dungeon.customSeedText = rec.gameData.getString(CUSTOM_SEED);
-			Dungeon.daily = rec.gameData.getBoolean(DAILY);
-			Dungeon.dailyReplay = rec.gameData.getBoolean(DAILY_REPLAY);
+		if (data.contains(SEED)){
+			Dungeon.seed = data.getLong(SEED);
+			Dungeon.customSeedText = data.getString(CUSTOM_SEED);
+			Dungeon.daily = data.getBoolean(DAILY);
+			Dungeon.dailyReplay = data.getBoolean(DAILY_REPLAY);
 		} else {
 			Dungeon.seed = -1;
 			Dungeon.customSeedText = "";
@@ -367,6 +371,13 @@ public enum Rankings {
 	public static final String DAILY_HISTORY_SCORES = "daily_history_scores";
 
 	public void save() {
+		for (Record rec : records){
+			rec.saveData();
+		}
+		if (latestDaily != null){
+			latestDaily.saveData();
+		}
+
 		Bundle bundle = new Bundle();
 		bundle.put( RECORDS, records );
 		bundle.put( LATEST, lastRecord );
@@ -404,9 +415,12 @@ public enum Rankings {
 		
 		try {
 			Bundle bundle = FileUtils.bundleFromFile( RANKINGS_FILE );
+			//rankings from before game data was stored separately include all of it inline
+			boolean migrate = false;
 			
 			for (Bundlable record : bundle.getCollection( RECORDS )) {
 				records.add( (Record)record );
+				if (((Record) record).gameData != null) migrate = true;
 			}
 			lastRecord = bundle.getInt( LATEST );
 			
@@ -426,6 +440,7 @@ public enum Rankings {
 
 			if (bundle.contains(LATEST_DAILY)){
 				latestDaily = (Record) bundle.get(LATEST_DAILY);
+				if (latestDaily.gameData != null) migrate = true;
 
 				dailyScoreHistory.clear();
 				int[] scores = bundle.getIntArray(DAILY_HISTORY_SCORES);
@@ -441,6 +456,10 @@ public enum Rankings {
 				}
 			}
 
+			if (migrate){
+				save();
+			}
+
 		} catch (IOException e) {
 		}
 	}
@@ -456,6 +475,7 @@ public enum Rankings {
 		private static final String DEPTH	= "depth";
 		private static final String ASCEND	= "ascending";
 		private static final String DATA	= "gameData";
+		private static final String HAS_DATA= "has_game_data";
 		private static final String ID      = "gameID";
 		private static final String SEED    = "custom_seed";
 		private static final String DAILY   = "daily";
@@ -472,9 +492,57 @@ public enum Rankings {
 		public int depth;
 		public boolean ascending;
 
+		//null if there is no game data, or if it hasn't been read from its file yet
 		public Bundle gameData;
 		public String gameID;
 
+		//true if game data exists in this record's file, but hasn't been read yet
+		private boolean dataUnread = false;
+		//the game data as of when this record's file was last written or read
+		private Bundle savedData = null;
+
+		public Bundle gameData(){
+			if (dataUnread){
+				dataUnread = false;
+				try {
+					gameData = savedData = FileUtils.bundleFromFile( dataFile() );
+				} catch (IOException e) {
+					Game.reportException(e);
+					gameData = savedData = null;
+				}
+			}
+			return gameData;
+		}
+
+		public String dataFile(){
+			return Messages.format( RECORD_FILE, gameID );
+		}
+
+		//writes game data to this record's file, if it has changed
+		private void saveData(){
+			if (dataUnread || gameData == savedData){
+				return;
+			}
+			if (gameData == null){
+				FileUtils.deleteFile( dataFile() );
+				savedData = null;
+			} else {
+				try {
+					FileUtils.bundleToFile( dataFile(), gameData );
+					savedData = gameData;
+				} catch (IOException e) {
+					//data will be stored inline in the rankings file instead
+					ShatteredPixelDungeon.reportException(e);
+				}
+			}
+		}
+
+		private void deleteData(){
+			FileUtils.deleteFile( dataFile() );
+			gameData = savedData = null;
+			dataUnread = false;
+		}
+
 		//Note this is for summary purposes, visible score should be re-calculated from game data
 		public int score;
 
@@ -535,6 +603,8 @@ public enum Rankings {
 			
 			if (gameID == null) gameID = UUID.randomUUID().toString();
 
+			dataUnread = gameData == null && bundle.getBoolean( HAS_DATA );
+
 		}
 		
 		@Override
@@ -556,7 +626,9 @@ public enum Rankings {
 			bundle.put( DATE, date );
 			bundle.put( VERSION, version );
 
-			if (gameData != null) bundle.put( DATA, gameData );
+			//game data normally lives in its own file, but is kept inline if that file couldn't be written
+			if (gameData != null && gameData != savedData) bundle.put( DATA, gameData );
+			bundle.put( HAS_DATA, dataUnread || gameData != null );
 			bundle.put( ID, gameID );
 		}
 	}
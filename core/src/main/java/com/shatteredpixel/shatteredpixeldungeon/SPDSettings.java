@@ -283,6 +283,7 @@ public class SPDSettings extends GameSettings {
 
 	public static final String KEY_CONTROLLER_SENS  = "controller_sens";
 	public static final String KEY_MOVE_SENS        = "move_sens";
+	public static final String KEY_RECORD_INPUT     = "record_input";
 
 	public static void controllerPointerSensitivity( int value ){
 		put( KEY_CONTROLLER_SENS, value );
@@ -300,6 +301,15 @@ public class SPDSettings extends GameSettings {
 		return getInt(KEY_MOVE_SENS, 3, 0, 4);
 	}
 
+	//whether new runs journal the player's input, see InputJournal
+	public static void recordInput( boolean value ){
+		put( KEY_RECORD_INPUT, value );
+	}
+
+	public static boolean recordInput(){
+		return getBoolean(KEY_RECORD_INPUT, false);
+	}
+
 	//Connectivity
 
 	public static final String KEY_NEWS     = "news";
@@ -21,13 +21,26 @@
 
 package com.shatteredpixel.shatteredpixeldungeon;
 
+import com.shatteredpixel.shatteredpixeldungeon.items.Gold;
+import com.shatteredpixel.shatteredpixeldungeon.items.Heap;
+import com.shatteredpixel.shatteredpixeldungeon.levels.features.LevelTransition;
+import com.shatteredpixel.shatteredpixeldungeon.levels.rooms.Room;
+import com.shatteredpixel.shatteredpixeldungeon.levels.rooms.connection.BridgeRoom;
+import com.shatteredpixel.shatteredpixeldungeon.levels.rooms.connection.PerimeterRoom;
+import com.shatteredpixel.shatteredpixeldungeon.levels.rooms.connection.RingBridgeRoom;
+import com.shatteredpixel.shatteredpixeldungeon.levels.rooms.connection.RingTunnelRoom;
+import com.shatteredpixel.shatteredpixeldungeon.levels.rooms.connection.TunnelRoom;
+import com.shatteredpixel.shatteredpixeldungeon.levels.rooms.connection.WalkwayRoom;
 import com.shatteredpixel.shatteredpixeldungeon.scenes.GameScene;
 import com.shatteredpixel.shatteredpixeldungeon.scenes.PixelScene;
 import com.shatteredpixel.shatteredpixeldungeon.scenes.TitleScene;
 import com.shatteredpixel.shatteredpixeldungeon.scenes.WelcomeScene;
+import com.watabou.gltextures.TextureCache;
 import com.watabou.noosa.Game;
 import com.watabou.noosa.audio.Music;
 import com.watabou.noosa.audio.Sample;
+import com.watabou.utils.Bundlable;
+import com.watabou.utils.Bundle;
 import com.watabou.utils.DeviceCompat;
 import com.watabou.utils.PlatformSupport;
 
@@ -99,6 +112,72 @@ public class ShatteredPixelDungeon extends Game {
 		com.watabou.utils.Bundle.addAlias(
 				com.shatteredpixel.shatteredpixeldungeon.levels.rooms.quest.RotGardenRoom.class,
 				"com.shatteredpixel.shatteredpixeldungeon.levels.rooms.special.RotGardenRoom" );
+
+		addBundleFactories();
+	}
+
+	//the classes which make up most of a saved level, these are restored without reflection
+	private static void addBundleFactories(){
+		Bundle.addFactory( Heap.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new Heap();
+			}
+		});
+		Bundle.addFactory( Gold.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new Gold();
+			}
+		});
+		Bundle.addFactory( LevelTransition.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new LevelTransition();
+			}
+		});
+		Bundle.addFactory( Room.Door.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new Room.Door();
+			}
+		});
+		Bundle.addFactory( TunnelRoom.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new TunnelRoom();
+			}
+		});
+		Bundle.addFactory( PerimeterRoom.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new PerimeterRoom();
+			}
+		});
+		Bundle.addFactory( BridgeRoom.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new BridgeRoom();
+			}
+		});
+		Bundle.addFactory( RingTunnelRoom.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new RingTunnelRoom();
+			}
+		});
+		Bundle.addFactory( RingBridgeRoom.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new RingBridgeRoom();
+			}
+		});
+		Bundle.addFactory( WalkwayRoom.class, new Bundle.Factory() {
+			@Override
+			public Bundlable create() {
+				return new WalkwayRoom();
+			}
+		});
 	}
 	
 	@Override
@@ -114,6 +193,9 @@ public class ShatteredPixelDungeon extends Game {
 		Sample.INSTANCE.volume( SPDSettings.SFXVol()*SPDSettings.SFXVol()/100f );
 
 		Sample.INSTANCE.load( Assets.Sounds.all );
+
+		//character, item, and UI sheets are drawn interleaved constantly, so they share texture pages
+		TextureCache.packedPaths( "sprites/", "interfaces/" );
 		
 	}
 
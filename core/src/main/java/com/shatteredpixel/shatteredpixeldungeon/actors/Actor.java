@@ -29,6 +29,7 @@ import com.shatteredpixel.shatteredpixeldungeon.actors.mobs.Mob;
 import com.watabou.noosa.Game;
 import com.watabou.utils.Bundlable;
 import com.watabou.utils.Bundle;
+import com.watabou.utils.Profiler;
 import com.watabou.utils.SparseArray;
 
 import java.util.HashSet;
@@ -140,6 +141,8 @@ public abstract class Actor implements Bundlable {
 	
 	private static HashSet<Actor> all = new HashSet<>();
 	private static HashSet<Char> chars = new HashSet<>();
+	//copy of chars for callers that only iterate over them, made when needed after chars change
+	private static Char[] charsArray = null;
 	private static volatile Actor current;
 
 	private static SparseArray<Actor> ids = new SparseArray<>();
@@ -157,6 +160,7 @@ public abstract class Actor implements Bundlable {
 
 		all.clear();
 		chars.clear();
+		charsArray = null;
 
 		ids.clear();
 	}
@@ -234,6 +238,20 @@ public abstract class Actor implements Bundlable {
 	}
 	
 	public static boolean keepActorThreadAlive = true;
+
+	//total number of acts processed, useful for measuring simulation throughput
+	//only the actor thread writes this, other threads may read it
+	private static volatile long actCount = 0;
+
+	public static long actCount(){
+		return actCount;
+	}
+
+	//whether the renderer should get a chance to run after this actor finishes its turn and returns false
+	//actors which have nothing to show for their turn can return false here to let the next actor go immediately
+	protected boolean syncsWithRenderer(){
+		return true;
+	}
 	
 	public static void process() {
 		
@@ -283,7 +301,13 @@ public abstract class Actor implements Bundlable {
 					doNext = false;
 					current = null;
 				} else {
+					long start = Profiler.begin();
 					doNext = acting.act();
+					Profiler.end("Actor.act", start);
+					actCount++;
+					if (!doNext && current == null && !acting.syncsWithRenderer()){
+						doNext = true;
+					}
 					if (doNext && (Dungeon.hero == null || !Dungeon.hero.isAlive())) {
 						doNext = false;
 						current = null;
@@ -340,6 +364,7 @@ public abstract class Actor implements Bundlable {
 		if (actor instanceof Char) {
 			Char ch = (Char)actor;
 			chars.add( ch );
+			charsArray = null;
 			for (Buff buff : ch.buffs()) {
 				add(buff);
 			}
@@ -350,7 +375,9 @@ public abstract class Actor implements Bundlable {
 		
 		if (actor != null) {
 			all.remove( actor );
-			chars.remove( actor );
+			if (chars.remove( actor )) {
+				charsArray = null;
+			}
 			actor.onRemove();
 
 			if (actor.id > 0) {
@@ -385,4 +412,17 @@ public abstract class Actor implements Bundlable {
 	}
 
 	public static synchronized HashSet<Char> chars() { return new HashSet<>(chars); }
+
+	//cheaper than chars() when called often, as the copy is shared until chars change. Must not be modified.
+	public static synchronized Char[] charsArray() {
+		if (charsArray == null){
+			charsArray = chars.toArray(new Char[0]);
+		}
+		return charsArray;
+	}
+
+	//faster than chars().contains(), as the set of chars isn't copied
+	public static synchronized boolean containsChar( Char ch ) {
+		return chars.contains( ch );
+	}
 }
@@ -164,6 +164,14 @@ public abstract class Char extends Actor {
 		ALLY
 	}
 	public Alignment alignment;
+
+	//alignment should be changed through this once a char is on a level, so the level's mob lists stay correct
+	public void alignment( Alignment alignment ){
+		this.alignment = alignment;
+		if (Dungeon.level != null){
+			Dungeon.level.alignmentsChanged();
+		}
+	}
 	
 	public int viewDistance	= 8;
 	
@@ -185,6 +193,12 @@ public abstract class Char extends Actor {
 		return false;
 	}
 
+	//chars the hero can't see have nothing to animate, so they can hand off their turn immediately
+	@Override
+	protected boolean syncsWithRenderer() {
+		return sprite != null && sprite.visible;
+	}
+
 	protected void throwItems(){
 		Heap heap = Dungeon.level.heaps.get( pos );
 		if (heap != null && heap.type == Heap.Type.HEAP
@@ -287,7 +301,9 @@ public abstract class Char extends Actor {
 	
 	protected boolean moveSprite( int from, int to ) {
 		
-		if (sprite.isVisible() && sprite.parent != null && (Dungeon.level.heroFOV[from] || Dungeon.level.heroFOV[to])) {
+		if (sprite == null) {
+			return true;
+		} else if (sprite.isVisible() && sprite.parent != null && (Dungeon.level.heroFOV[from] || Dungeon.level.heroFOV[to])) {
 			sprite.move( from, to );
 			return true;
 		} else {
@@ -1009,7 +1025,7 @@ public abstract class Char extends Actor {
 		}
 
 		buffs.add( buff );
-		if (Actor.chars().contains(this)) Actor.add( buff );
+		if (Actor.containsChar(this)) Actor.add( buff );
 
 		if (sprite != null && buff.announced) {
 			switch (buff.type) {
@@ -1087,7 +1103,7 @@ public abstract class Char extends Actor {
 
 		pos = step;
 		
-		if (this != Dungeon.hero) {
+		if (this != Dungeon.hero && sprite != null) {
 			sprite.visible = Dungeon.level.heroFOV[pos];
 		}
 		
@@ -26,6 +26,7 @@ import com.shatteredpixel.shatteredpixeldungeon.actors.Actor;
 import com.shatteredpixel.shatteredpixeldungeon.effects.BlobEmitter;
 import com.shatteredpixel.shatteredpixeldungeon.levels.Level;
 import com.watabou.utils.Bundle;
+import com.watabou.utils.Profiler;
 import com.watabou.utils.Rect;
 import com.watabou.utils.Reflection;
 
@@ -115,7 +116,9 @@ public class Blob extends Actor {
 
 			volume = 0;
 
+			long start = Profiler.begin();
 			evolve();
+			Profiler.end("Blob.evolve", start);
 			int[] tmp = off;
 			off = cur;
 			cur = tmp;
@@ -38,7 +38,7 @@ public abstract class AllyBuff extends Buff{
 	@Override
 	public boolean attachTo(Char target) {
 		if (super.attachTo(target)){
-			target.alignment = Char.Alignment.ALLY;
+			target.alignment( Char.Alignment.ALLY );
 			if (target.buff(PinCushion.class) != null){
 				target.buff(PinCushion.class).detach();
 			}
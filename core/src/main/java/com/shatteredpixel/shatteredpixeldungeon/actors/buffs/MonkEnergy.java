@@ -511,7 +511,7 @@ public class MonkEnergy extends Buff implements ActionIndicator.Action {
 
 				Ballistica dash = new Ballistica(hero.pos, target, Ballistica.PROJECTILE);
 
-				if (!dash.collisionPos.equals(target)
+				if (dash.collisionPos != target
 						|| (Dungeon.level.solid[target] && !Dungeon.level.passable[target])){
 					GLog.w(Messages.get(MeleeWeapon.class, "ability_target_range"));
 					return;
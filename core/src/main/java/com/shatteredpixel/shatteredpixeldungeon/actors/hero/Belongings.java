@@ -41,6 +41,8 @@ import com.watabou.utils.Bundle;
 import com.watabou.utils.Random;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 
 public class Belongings implements Iterable<Item> {
@@ -233,11 +235,105 @@ public class Belongings implements Iterable<Item> {
 		return result;
 	}
 	
+	//class and membership lookups happen constantly (talents, quickslots, inventory UI, etc.)
+	// so their results are indexed until the contents of an equip slot or bag change.
+	//this relies on bag modification counts, so it never needs to be explicitly invalidated
+	private final ArrayList<Item> indexedItems = new ArrayList<>();
+	private final HashSet<Item> indexedSet = new HashSet<>();
+	private final HashMap<Class<?>, ArrayList<Item>> indexedByClass = new HashMap<>();
+
+	private final Item[] indexedEquips = new Item[6];
+	private final ArrayList<Bag> indexedBags = new ArrayList<>();
+	private final ArrayList<ArrayList<Item>> indexedBagLists = new ArrayList<>();
+	private int[] indexedBagVersions = new int[0];
+	private boolean indexed = false;
+
+	private boolean indexIsCurrent(){
+		if (!indexed
+				|| indexedEquips[0] != weapon || indexedEquips[1] != armor
+				|| indexedEquips[2] != artifact || indexedEquips[3] != misc
+				|| indexedEquips[4] != ring || indexedEquips[5] != secondWep
+				|| indexedBags.isEmpty() || indexedBags.get(0) != backpack){
+			return false;
+		}
+
+		//any bag being added or removed changes the version of the bag containing it
+		for (int i = 0; i < indexedBags.size(); i++){
+			Bag bag = indexedBags.get(i);
+			if (bag.items != indexedBagLists.get(i) || bag.contentsVersion() != indexedBagVersions[i]){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	//returns false if the index can't be used, in which case callers should scan instead
+	private boolean updateIndex(){
+		if (indexIsCurrent()){
+			return true;
+		}
+
+		indexed = false;
+		indexedItems.clear();
+		indexedSet.clear();
+		indexedByClass.clear();
+		indexedBags.clear();
+		indexedBagLists.clear();
+
+		indexedEquips[0] = weapon;
+		indexedEquips[1] = armor;
+		indexedEquips[2] = artifact;
+		indexedEquips[3] = misc;
+		indexedEquips[4] = ring;
+		indexedEquips[5] = secondWep;
+
+		indexedBags.add(backpack);
+		for (Item item : this){
+			indexedItems.add(item);
+			indexedSet.add(item);
+			if (item instanceof Bag){
+				indexedBags.add((Bag)item);
+			}
+		}
+
+		indexedBagVersions = new int[indexedBags.size()];
+		for (int i = 0; i < indexedBags.size(); i++){
+			Bag bag = indexedBags.get(i);
+			indexedBagLists.add(bag.items);
+			indexedBagVersions[i] = bag.contentsVersion();
+			if (indexedBagVersions[i] == -1){
+				return false;
+			}
+		}
+
+		indexed = true;
+		return true;
+	}
+
+	private ArrayList<Item> indexedItemsOf( Class<?> itemClass ){
+		ArrayList<Item> result = indexedByClass.get(itemClass);
+		if (result == null){
+			result = new ArrayList<>();
+			for (Item item : indexedItems){
+				if (itemClass.isInstance( item )){
+					result.add(item);
+				}
+			}
+			indexedByClass.put(itemClass, result);
+		}
+		return result;
+	}
+
 	@SuppressWarnings("unchecked")
-	public<T extends Item> T getItem( Class<T> itemClass ) {
+	public synchronized <T extends Item> T getItem( Class<T> itemClass ) {
 
 		boolean lostInvent = lostInventory();
 
+		if (!lostInvent && updateIndex()){
+			ArrayList<Item> items = indexedItemsOf(itemClass);
+			return items.isEmpty() ? null : (T) items.get(0);
+		}
+
 		for (Item item : this) {
 			if (itemClass.isInstance( item )) {
 				if (!lostInvent || item.keptThroughLostInventory()) {
@@ -249,11 +345,17 @@ public class Belongings implements Iterable<Item> {
 		return null;
 	}
 
-	public<T extends Item> ArrayList<T> getAllItems( Class<T> itemClass ) {
+	@SuppressWarnings("unchecked")
+	public synchronized <T extends Item> ArrayList<T> getAllItems( Class<T> itemClass ) {
 		ArrayList<T> result = new ArrayList<>();
 
 		boolean lostInvent = lostInventory();
 
+		if (!lostInvent && updateIndex()){
+			result.addAll((ArrayList<T>) indexedItemsOf(itemClass));
+			return result;
+		}
+
 		for (Item item : this) {
 			if (itemClass.isInstance( item )) {
 				if (!lostInvent || item.keptThroughLostInventory()) {
@@ -265,9 +367,14 @@ public class Belongings implements Iterable<Item> {
 		return result;
 	}
 	
-	public boolean contains( Item contains ){
+	public synchronized boolean contains( Item contains ){
 
 		boolean lostInvent = lostInventory();
+
+		if (updateIndex()){
+			return indexedSet.contains(contains)
+					&& (!lostInvent || contains.keptThroughLostInventory());
+		}
 		
 		for (Item item : this) {
 			if (contains == item) {
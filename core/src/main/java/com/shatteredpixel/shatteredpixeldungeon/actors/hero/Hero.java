@@ -21,6 +21,7 @@
 
 package com.shatteredpixel.shatteredpixeldungeon.actors.hero;
 
+import com.badlogic.gdx.utils.TimeUtils;
 import com.shatteredpixel.shatteredpixeldungeon.Assets;
 import com.shatteredpixel.shatteredpixeldungeon.Badges;
 import com.shatteredpixel.shatteredpixeldungeon.Bones;
@@ -31,7 +32,9 @@ import com.shatteredpixel.shatteredpixeldungeon.ShatteredPixelDungeon;
 import com.shatteredpixel.shatteredpixeldungeon.Statistics;
 import com.shatteredpixel.shatteredpixeldungeon.actors.Actor;
 import com.shatteredpixel.shatteredpixeldungeon.actors.Char;
+import com.shatteredpixel.shatteredpixeldungeon.actors.blobs.Blob;
 import com.shatteredpixel.shatteredpixeldungeon.actors.blobs.SacrificialFire;
+import com.shatteredpixel.shatteredpixeldungeon.actors.blobs.SmokeScreen;
 import com.shatteredpixel.shatteredpixeldungeon.actors.buffs.AdrenalineSurge;
 import com.shatteredpixel.shatteredpixeldungeon.actors.buffs.AnkhInvulnerability;
 import com.shatteredpixel.shatteredpixeldungeon.actors.buffs.ArtifactRecharge;
@@ -153,6 +156,7 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.BuffIndicator;
 import com.shatteredpixel.shatteredpixeldungeon.ui.QuickSlotButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.StatusPane;
 import com.shatteredpixel.shatteredpixeldungeon.utils.GLog;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 import com.shatteredpixel.shatteredpixeldungeon.windows.WndHero;
 import com.shatteredpixel.shatteredpixeldungeon.windows.WndResurrect;
 import com.shatteredpixel.shatteredpixeldungeon.windows.WndTradeItem;
@@ -168,6 +172,7 @@ import com.watabou.utils.Random;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 
 public class Hero extends Char {
@@ -216,6 +221,11 @@ public class Hero extends Char {
 	public int HTBoost = 0;
 	
 	private ArrayList<Mob> visibleEnemies;
+	//the same enemies, for quickly checking whether a mob was already visible
+	private HashSet<Mob> visibleEnemySet;
+
+	//counts buffs being added or removed, used to tell if the field of view may have changed
+	private int buffChanges = 0;
 
 	//This list is maintained so that some logic checks can be skipped
 	// for enemies we know we aren't seeing normally, resulting in better performance
@@ -230,6 +240,7 @@ public class Hero extends Char {
 		belongings = new Belongings( this );
 		
 		visibleEnemies = new ArrayList<>();
+		visibleEnemySet = new HashSet<>();
 	}
 	
 	public void updateHT( boolean boostHP ){
@@ -634,10 +645,10 @@ public class Hero extends Char {
 		
 		Momentum momentum = buff(Momentum.class);
 		if (momentum != null){
-			((HeroSprite)sprite).sprint( momentum.freerunning() ? 1.5f : 1f );
 			speed *= momentum.speedMultiplier();
-		} else {
-			((HeroSprite)sprite).sprint( 1f );
+		}
+		if (sprite != null){
+			((HeroSprite)sprite).sprint( momentum != null && momentum.freerunning() ? 1.5f : 1f );
 		}
 
 		NaturesPower.naturesPowerTracker natStrength = buff(NaturesPower.naturesPowerTracker.class);
@@ -663,7 +674,7 @@ public class Hero extends Char {
 	}
 
 	public boolean canAttack(Char enemy){
-		if (enemy == null || pos == enemy.pos || !Actor.chars().contains(enemy)) {
+		if (enemy == null || pos == enemy.pos || !Actor.containsChar(enemy)) {
 			return false;
 		}
 
@@ -738,10 +749,17 @@ public class Hero extends Char {
 	
 	@Override
 	public boolean act() {
+
+		InputJournal.heroAct();
 		
 		//calls to dungeon.observe will also update hero's local FOV.
 		fieldOfView = Dungeon.level.heroFOV;
 
+		//fast-forwarding stops as soon as the hero does something other than rest
+		if (!resting || curAction != null){
+			fastForwardStart = -1;
+		}
+
 		if (buff(Endure.EndureTracker.class) != null){
 			buff(Endure.EndureTracker.class).endEnduring();
 		}
@@ -751,14 +769,20 @@ public class Hero extends Char {
 			if (!resting || buff(MindVision.class) != null || buff(Awareness.class) != null) {
 				Dungeon.observe();
 			} else {
-				//otherwise just directly re-calculate FOV
-				Dungeon.level.updateFieldOfView(this, fieldOfView);
+				//otherwise just directly re-calculate FOV, which fast-forwarded turns only do if it may have changed
+				boolean changed = fovInputsChanged();
+				if (fastForwardStart == -1 || changed) {
+					Dungeon.level.updateFieldOfView(this, fieldOfView);
+				}
 			}
 		}
 		
 		checkVisibleMobs();
-		BuffIndicator.refreshHero();
-		BuffIndicator.refreshBoss();
+		//fast-forwarded turns leave the UI alone, it is refreshed once the renderer gets a frame
+		if (fastForwardStart == -1) {
+			BuffIndicator.refreshHero();
+			BuffIndicator.refreshBoss();
+		}
 		
 		if (paralysed > 0) {
 			
@@ -837,12 +861,62 @@ public class Hero extends Char {
 		return actResult;
 	}
 	
+	//rest turns with no enemies in view are fast-forwarded, many turns are processed without waiting for a frame
+	//the renderer still runs every few milliseconds, so visuals keep up and the player can stop resting
+	private static final long FAST_FORWARD_BURST = 8;
+
+	//when the current burst of fast-forwarded turns started, or -1 if the last turn waited for a frame
+	//only used by the actor thread
+	private long fastForwardStart = -1;
+
+	@Override
+	protected boolean syncsWithRenderer() {
+		if (resting && curAction == null && paralysed == 0 && visibleEnemies.isEmpty()){
+			long now = TimeUtils.millis();
+			if (fastForwardStart == -1){
+				fastForwardStart = now;
+			}
+			if (now - fastForwardStart < FAST_FORWARD_BURST){
+				return false;
+			}
+		}
+
+		if (fastForwardStart != -1){
+			fastForwardStart = -1;
+			//bring the UI up to date with the turns that were skipped over
+			BuffIndicator.refreshHero();
+			BuffIndicator.refreshBoss();
+		}
+		return true;
+	}
+
+	//a summary of everything the hero's field of view depends on, see Level.updateFieldOfView
+	private long fovInputs;
+
+	private boolean fovInputsChanged(){
+		long inputs = pos;
+		inputs = 31*inputs + viewDistance;
+		inputs = 31*inputs + buffChanges;
+		inputs = 31*inputs + Dungeon.level.terrainVersion();
+		inputs = 31*inputs + Dungeon.level.heaps.size;
+		for (Mob m : Dungeon.level.mobs){
+			inputs = 31*inputs + m.pos;
+		}
+
+		boolean changed = inputs != fovInputs;
+		fovInputs = inputs;
+
+		//smoke screens change shape every turn
+		Blob smoke = Dungeon.level.blobs.get(SmokeScreen.class);
+		return changed || (smoke != null && smoke.volume > 0);
+	}
+	
 	public void busy() {
 		ready = false;
 	}
 	
 	private void ready() {
-		if (sprite.looping()) sprite.idle();
+		if (sprite != null && sprite.looping()) sprite.idle();
 		curAction = null;
 		damageInterrupt = true;
 		waitOrPickup = false;
@@ -1347,6 +1421,7 @@ public class Hero extends Char {
 	}
 	
 	public void rest( boolean fullRest ) {
+		InputJournal.rest( fullRest );
 		spendAndNextConstant( TIME_TO_REST );
 		if (hasTalent(Talent.HOLD_FAST)){
 			Buff.affect(this, HoldFast.class).pos = pos;
@@ -1512,20 +1587,22 @@ public class Hero extends Char {
 	
 	public void checkVisibleMobs() {
 		ArrayList<Mob> visible = new ArrayList<>();
+		HashSet<Mob> visibleSet = new HashSet<>();
 
 		boolean newMob = false;
 
 		Mob target = null;
-		for (Mob m : Dungeon.level.mobs.toArray(new Mob[0])) {
+		for (Mob m : Dungeon.level.mobsOf(Alignment.ENEMY)) {
 			if (fieldOfView[ m.pos ] && m.alignment == Alignment.ENEMY) {
 				visible.add(m);
-				if (!visibleEnemies.contains( m )) {
+				visibleSet.add(m);
+				if (!visibleEnemySet.contains( m )) {
 					newMob = true;
 				}
 
 				//only do a simple check for mind visioned enemies, better performance
 				if ((!mindVisionEnemies.contains(m) && QuickSlotButton.autoAim(m) != -1)
-						|| (mindVisionEnemies.contains(m) && new Ballistica( pos, m.pos, Ballistica.PROJECTILE ).collisionPos == m.pos)) {
+						|| (mindVisionEnemies.contains(m) && Ballistica.findCollision(pos, m.pos, Ballistica.PROJECTILE) == m.pos)) {
 					if (target == null) {
 						target = m;
 					} else if (distance(target) > distance(m)) {
@@ -1557,6 +1634,7 @@ public class Hero extends Char {
 			interrupt();
 		}
 
+		visibleEnemySet = visibleSet;
 		visibleEnemies = visible;
 	}
 	
@@ -1664,7 +1742,7 @@ public class Hero extends Char {
 				Buff.affect(this, Momentum.class).gainStack();
 			}
 			
-			sprite.move(pos, step);
+			if (sprite != null) sprite.move(pos, step);
 			move(step);
 
 			spend( delay );
@@ -1688,6 +1766,8 @@ public class Hero extends Char {
 			return false;
 		}
 
+		InputJournal.handle( cell );
+
 		if (fieldOfView == null || fieldOfView.length != Dungeon.level.length()){
 			fieldOfView = new boolean[Dungeon.level.length()];
 			Dungeon.level.updateFieldOfView( this, fieldOfView );
@@ -1875,6 +1955,7 @@ public class Hero extends Char {
 		}
 
 		boolean added = super.add( buff );
+		buffChanges++;
 
 		if (sprite != null && added) {
 			String msg = buff.heroMessage();
@@ -1896,6 +1977,7 @@ public class Hero extends Char {
 	@Override
 	public boolean remove( Buff buff ) {
 		if (super.remove( buff )) {
+			buffChanges++;
 			BuffIndicator.refreshHero();
 			return true;
 		}
@@ -2050,6 +2132,7 @@ public class Hero extends Char {
 			((Hero.Doom)cause).onDeath();
 		}
 
+		InputJournal.gameOver();
 		Dungeon.deleteGame( GamesInProgress.curSlot, true );
 	}
 
@@ -2210,6 +2293,10 @@ public class Hero extends Char {
 	public boolean search( boolean intentional ) {
 		
 		if (!isAlive()) return false;
+
+		if (intentional) {
+			InputJournal.search();
+		}
 		
 		boolean smthFound = false;
 
@@ -2327,8 +2414,10 @@ public class Hero extends Char {
 		}
 		
 		if (intentional) {
-			sprite.showStatus( CharSprite.DEFAULT, Messages.get(this, "search") );
-			sprite.operate( pos );
+			if (sprite != null) {
+				sprite.showStatus( CharSprite.DEFAULT, Messages.get(this, "search") );
+				sprite.operate( pos );
+			}
 			if (!Dungeon.level.locked) {
 				if (cursed) {
 					GLog.n(Messages.get(this, "search_distracted"));
@@ -105,7 +105,7 @@ public class Ratmogrify extends ArmorAbility {
 					int index = Random.index( spawnPoints );
 
 					Rat rat = new Rat();
-					rat.alignment = Char.Alignment.ALLY;
+					rat.alignment( Char.Alignment.ALLY );
 					rat.state = rat.HUNTING;
 					Buff.affect(rat, AscensionChallenge.AscensionBuffBlocker.class);
 					GameScene.add( rat );
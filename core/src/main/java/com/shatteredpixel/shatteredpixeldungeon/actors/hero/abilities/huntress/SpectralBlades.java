@@ -78,7 +78,7 @@ public class SpectralBlades extends ArmorAbility {
 
 		if (hero.hasTalent(Talent.FAN_OF_BLADES)){
 			ConeAOE cone = new ConeAOE(b, 30*hero.pointsInTalent(Talent.FAN_OF_BLADES));
-			for (Ballistica ray : cone.rays){
+			for (Ballistica ray : cone.rays()){
 				Char toAdd = findChar(ray, hero, 2*hero.pointsInTalent(Talent.PROJECTING_BLADES), targets);
 				if (toAdd != null && hero.fieldOfView[toAdd.pos]){
 					targets.add(toAdd);
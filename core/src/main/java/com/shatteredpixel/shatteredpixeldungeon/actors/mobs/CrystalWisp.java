@@ -91,13 +91,13 @@ public class CrystalWisp extends Mob{
 	@Override
 	protected boolean canAttack( Char enemy ) {
 		return super.canAttack(enemy)
-				|| new Ballistica( pos, enemy.pos, Ballistica.MAGIC_BOLT).collisionPos == enemy.pos;
+				|| Ballistica.findCollision(pos, enemy.pos, Ballistica.MAGIC_BOLT) == enemy.pos;
 	}
 
 	protected boolean doAttack(Char enemy ) {
 
 		if (Dungeon.level.adjacent( pos, enemy.pos )
-				|| new Ballistica( pos, enemy.pos, Ballistica.MAGIC_BOLT).collisionPos != enemy.pos) {
+				|| Ballistica.findCollision(pos, enemy.pos, Ballistica.MAGIC_BOLT) != enemy.pos) {
 
 			return super.doAttack( enemy );
 
@@ -119,7 +119,7 @@ public class DemonSpawner extends Mob {
 				GameScene.add( spawn, 1 );
 				Dungeon.level.occupyCell(spawn);
 
-				if (sprite.visible) {
+				if (sprite != null && sprite.visible) {
 					Actor.add(new Pushing(spawn, pos, spawn.pos));
 				}
 
@@ -127,7 +127,7 @@ public abstract class Elemental extends Mob {
 		if (super.canAttack(enemy)){
 			return true;
 		} else {
-			return rangedCooldown < 0 && new Ballistica( pos, enemy.pos, Ballistica.MAGIC_BOLT ).collisionPos == enemy.pos;
+			return rangedCooldown < 0 && Ballistica.findCollision(pos, enemy.pos, Ballistica.MAGIC_BOLT) == enemy.pos;
 		}
 	}
 	
@@ -135,7 +135,7 @@ public abstract class Elemental extends Mob {
 		
 		if (Dungeon.level.adjacent( pos, enemy.pos )
 				|| rangedCooldown > 0
-				|| new Ballistica( pos, enemy.pos, Ballistica.MAGIC_BOLT ).collisionPos != enemy.pos) {
+				|| Ballistica.findCollision(pos, enemy.pos, Ballistica.MAGIC_BOLT) != enemy.pos) {
 			
 			return super.doAttack( enemy );
 			
@@ -267,7 +267,7 @@ public abstract class Elemental extends Mob {
 			//fire a charged attack instead of any other action, as long as it is possible to do so
 			if (targetingPos != -1 && state == HUNTING){
 				//account for bolt hitting walls, in case position suddenly changed
-				targetingPos = new Ballistica( pos, targetingPos, Ballistica.STOP_SOLID | Ballistica.STOP_TARGET ).collisionPos;
+				targetingPos = Ballistica.findCollision(pos, targetingPos, Ballistica.STOP_SOLID | Ballistica.STOP_TARGET);
 				if (sprite != null && (sprite.visible || Dungeon.level.heroFOV[targetingPos])) {
 					sprite.zap( targetingPos );
 					return false;
@@ -290,7 +290,7 @@ public abstract class Elemental extends Mob {
 			if (super.canAttack(enemy)){
 				return true;
 			} else {
-				return rangedCooldown < 0 && new Ballistica( pos, enemy.pos, Ballistica.STOP_SOLID | Ballistica.STOP_TARGET ).collisionPos == enemy.pos;
+				return rangedCooldown < 0 && Ballistica.findCollision(pos, enemy.pos, Ballistica.STOP_SOLID | Ballistica.STOP_TARGET) == enemy.pos;
 			}
 		}
 
@@ -300,13 +300,13 @@ public abstract class Elemental extends Mob {
 
 				return super.doAttack( enemy );
 
-			} else if (new Ballistica( pos, enemy.pos, Ballistica.STOP_SOLID | Ballistica.STOP_TARGET ).collisionPos == enemy.pos) {
+			} else if (Ballistica.findCollision(pos, enemy.pos, Ballistica.STOP_SOLID | Ballistica.STOP_TARGET) == enemy.pos) {
 
 				//set up an attack for next turn
 				ArrayList<Integer> candidates = new ArrayList<>();
 				for (int i : PathFinder.NEIGHBOURS8){
 					int target = enemy.pos + i;
-					if (target != pos && new Ballistica(pos, target, Ballistica.STOP_SOLID | Ballistica.STOP_TARGET).collisionPos == target){
+					if (target != pos && Ballistica.findCollision(pos, target, Ballistica.STOP_SOLID | Ballistica.STOP_TARGET) == target){
 						candidates.add(target);
 					}
 				}
@@ -624,7 +624,7 @@ public class GnollGeomancer extends Mob {
 
 		for (int i = 0; i < Dungeon.level.length(); i++){
 			if (source.fieldOfView[i] && Dungeon.level.map[i] == Terrain.MINE_BOULDER){
-				if (new Ballistica(i, target.pos, Ballistica.PROJECTILE).collisionPos == target.pos){
+				if (Ballistica.findCollision(i, target.pos, Ballistica.PROJECTILE) == target.pos){
 					candidateRocks.add(i);
 				}
 			}
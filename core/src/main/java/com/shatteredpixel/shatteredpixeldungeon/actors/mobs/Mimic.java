@@ -94,7 +94,7 @@ public class Mimic extends Mob {
 	public boolean add(Buff buff) {
 		if (super.add(buff)) {
 			if (buff.type == Buff.buffType.NEGATIVE && alignment == Alignment.NEUTRAL) {
-				alignment = Alignment.ENEMY;
+				alignment( Alignment.ENEMY );
 				stopHiding();
 				if (sprite != null) sprite.idle();
 			}
@@ -128,7 +128,7 @@ public class Mimic extends Mob {
 	@Override
 	protected boolean act() {
 		if (alignment == Alignment.NEUTRAL && state != PASSIVE){
-			alignment = Alignment.ENEMY;
+			alignment( Alignment.ENEMY );
 			if (sprite != null) sprite.idle();
 			if (Dungeon.level.heroFOV[pos]) {
 				GLog.w(Messages.get(this, "reveal") );
@@ -161,7 +161,7 @@ public class Mimic extends Mob {
 			return doAttack(Dungeon.hero);
 		} else {
 			sprite.idle();
-			alignment = Alignment.ENEMY;
+			alignment( Alignment.ENEMY );
 			Dungeon.hero.spendAndNext(1f);
 			return true;
 		}
@@ -171,7 +171,7 @@ public class Mimic extends Mob {
 	public void onAttackComplete() {
 		super.onAttackComplete();
 		if (alignment == Alignment.NEUTRAL){
-			alignment = Alignment.ENEMY;
+			alignment( Alignment.ENEMY );
 			Dungeon.hero.spendAndNext(1f);
 		}
 	}
@@ -179,7 +179,7 @@ public class Mimic extends Mob {
 	@Override
 	public int defenseProc(Char enemy, int damage) {
 		if (state == PASSIVE){
-			alignment = Alignment.ENEMY;
+			alignment( Alignment.ENEMY );
 			stopHiding();
 		}
 		return super.defenseProc(enemy, damage);
@@ -188,7 +188,7 @@ public class Mimic extends Mob {
 	@Override
 	public void damage(int dmg, Object src) {
 		if (state == PASSIVE){
-			alignment = Alignment.ENEMY;
+			alignment( Alignment.ENEMY );
 			stopHiding();
 		}
 		super.damage(dmg, src);
@@ -197,7 +197,7 @@ public class Mimic extends Mob {
 	@Override
 	public void die(Object cause) {
 		if (state == PASSIVE){
-			alignment = Alignment.ENEMY;
+			alignment( Alignment.ENEMY );
 			stopHiding();
 		}
 		super.die(cause);
@@ -206,7 +206,7 @@ public class Mimic extends Mob {
 	public void stopHiding(){
 		state = HUNTING;
 		if (sprite != null) sprite.idle();
-		if (Actor.chars().contains(this) && Dungeon.level.heroFOV[pos]) {
+		if (Actor.containsChar(this) && Dungeon.level.heroFOV[pos]) {
 			enemy = Dungeon.hero;
 			target = Dungeon.hero.pos;
 			GLog.w(Messages.get(this, "reveal") );
@@ -213,11 +213,13 @@ public abstract class Mob extends Char {
 		boolean justAlerted = alerted;
 		alerted = false;
 		
-		if (justAlerted){
-			sprite.showAlert();
-		} else {
-			sprite.hideAlert();
-			sprite.hideLost();
+		if (sprite != null) {
+			if (justAlerted) {
+				sprite.showAlert();
+			} else {
+				sprite.hideAlert();
+				sprite.hideLost();
+			}
 		}
 		
 		if (paralysed > 0) {
@@ -271,7 +273,7 @@ public abstract class Mob extends Char {
 				state = HUNTING;
 				return enemy;
 			}
-			for (Char ch : Actor.chars()) {
+			for (Char ch : Actor.charsArray()) {
 				if (ch != this && fieldOfView[ch.pos] &&
 						ch.buff(StoneOfAggression.Aggression.class) != null) {
 					state = HUNTING;
@@ -283,7 +285,7 @@ public abstract class Mob extends Char {
 		//find a new enemy if..
 		boolean newEnemy = false;
 		//we have no enemy, or the current one is dead/missing
-		if ( enemy == null || !enemy.isAlive() || !Actor.chars().contains(enemy) || state == WANDERING) {
+		if ( enemy == null || !enemy.isAlive() || !Actor.containsChar(enemy) || state == WANDERING) {
 			newEnemy = true;
 		//We are amoked and current enemy is the hero
 		} else if (buff( Amok.class ) != null && enemy == Dungeon.hero) {
@@ -311,7 +313,7 @@ public abstract class Mob extends Char {
 			//if we are amoked...
 			if ( buff(Amok.class) != null) {
 				//try to find an enemy mob to attack first.
-				for (Mob mob : Dungeon.level.mobs)
+				for (Mob mob : Dungeon.level.mobsOf(Alignment.ENEMY))
 					if (mob.alignment == Alignment.ENEMY && mob != this
 							&& fieldOfView[mob.pos] && mob.invisible <= 0) {
 						enemies.add(mob);
@@ -319,7 +321,7 @@ public abstract class Mob extends Char {
 				
 				if (enemies.isEmpty()) {
 					//try to find ally mobs to attack second.
-					for (Mob mob : Dungeon.level.mobs)
+					for (Mob mob : Dungeon.level.mobsOf(Alignment.ALLY))
 						if (mob.alignment == Alignment.ALLY && mob != this
 								&& fieldOfView[mob.pos] && mob.invisible <= 0) {
 							enemies.add(mob);
@@ -336,7 +338,7 @@ public abstract class Mob extends Char {
 			//if we are an ally...
 			} else if ( alignment == Alignment.ALLY ) {
 				//look for hostile mobs to attack
-				for (Mob mob : Dungeon.level.mobs)
+				for (Mob mob : Dungeon.level.mobsOf(Alignment.ENEMY))
 					if (mob.alignment == Alignment.ENEMY && fieldOfView[mob.pos]
 							&& mob.invisible <= 0 && !mob.isInvulnerable(getClass()))
 						//do not target passive mobs
@@ -349,7 +351,7 @@ public abstract class Mob extends Char {
 			//if we are an enemy...
 			} else if (alignment == Alignment.ENEMY) {
 				//look for ally mobs to attack
-				for (Mob mob : Dungeon.level.mobs)
+				for (Mob mob : Dungeon.level.mobsOf(Alignment.ALLY))
 					if (mob.alignment == Alignment.ALLY && fieldOfView[mob.pos] && mob.invisible <= 0)
 						enemies.add(mob);
 
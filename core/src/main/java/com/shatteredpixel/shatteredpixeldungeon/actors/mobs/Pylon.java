@@ -149,7 +149,7 @@ public class Pylon extends Mob {
 	}
 
 	public void activate(){
-		alignment = Alignment.ENEMY;
+		alignment( Alignment.ENEMY );
 		state = HUNTING; //so allies know to attack it
 		((PylonSprite) sprite).activate();
 	}
@@ -123,7 +123,7 @@ public class Tengu extends Mob {
 	//Tengu is immune to debuffs and damage when removed from the level
 	@Override
 	public boolean add(Buff buff) {
-		if (Actor.chars().contains(this) || buff instanceof Doom || loading){
+		if (Actor.containsChar(this) || buff instanceof Doom || loading){
 			return super.add(buff);
 		}
 		return false;
@@ -235,7 +235,7 @@ public class Tengu extends Mob {
 	
 	@Override
 	protected boolean canAttack( Char enemy ) {
-		return new Ballistica( pos, enemy.pos, Ballistica.PROJECTILE).collisionPos == enemy.pos;
+		return Ballistica.findCollision(pos, enemy.pos, Ballistica.PROJECTILE) == enemy.pos;
 	}
 	
 	private void jump() {
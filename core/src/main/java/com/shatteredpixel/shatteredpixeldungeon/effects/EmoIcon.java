@@ -78,7 +78,7 @@ public class EmoIcon extends Image {
 			timeScale = 0.5f;
 			
 			origin.set( width / 2, height / 2 );
-			scale.set( Random.Float( 1, maxSize ) );
+			scale.set( Random.Visual.Float( 1, maxSize ) );
 
 			x = owner.x + owner.width - width / 2;
 			y = owner.y - height;
@@ -97,7 +97,7 @@ public class EmoIcon extends Image {
 			timeScale = 2;
 			
 			origin.set( 2.5f, height - 2.5f );
-			scale.set( Random.Float( 1, maxSize ) );
+			scale.set( Random.Visual.Float( 1, maxSize ) );
 
 			x = owner.x + owner.width - width / 2;
 			y = owner.y - height;
@@ -115,7 +115,7 @@ public class EmoIcon extends Image {
 			timeScale = 1;
 			
 			origin.set( 2.5f, height - 2.5f );
-			scale.set( Random.Float( 1, maxSize ) );
+			scale.set( Random.Visual.Float( 1, maxSize ) );
 			
 			x = owner.x + owner.width - width / 2;
 			y = owner.y - height;
@@ -103,12 +103,12 @@ public class Fireball extends Component {
 		
 		super.update();
 		
-		if (Random.Float() < Game.elapsed) {
+		if (Random.Visual.Float() < Game.elapsed) {
 			PixelParticle spark = (PixelParticle)sparks.recycle( PixelParticle.Shrinking.class );
-			spark.reset( x, y, ColorMath.random( COLOR, 0x66FF66 ), 2, Random.Float( 0.5f, 1.0f ) );
+			spark.reset( x, y, ColorMath.random( COLOR, 0x66FF66 ), 2, Random.Visual.Float( 0.5f, 1.0f ) );
 			spark.speed.set(
-				Random.Float( -40, +40 ),
-				Random.Float( -60, +20 ) );
+				Random.Visual.Float( -40, +40 ),
+				Random.Visual.Float( -60, +20 ) );
 			spark.acc.set( 0, +80 );
 			sparks.add( spark );
 		}
@@ -135,7 +135,7 @@ public class Fireball extends Component {
 			
 			super( Assets.Effects.FIREBALL );
 			
-			frame( Random.Int( 2 ) == 0 ? FLAME1 : FLAME2 );
+			frame( Random.Visual.Int( 2 ) == 0 ? FLAME1 : FLAME2 );
 			origin.set( width / 2, height / 2 );
 			acc.set( 0, ACC );
 		}
@@ -157,7 +157,7 @@ public class Fireball extends Component {
 
 			if (y < heightLimit){
 				y = heightLimit;
-				speed.set(Random.Float(-20, 20), 0);
+				speed.set(Random.Visual.Float(-20, 20), 0);
 				acc.set(0, 0);
 			}
 			
@@ -29,7 +29,6 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
 import com.watabou.noosa.Camera;
 import com.watabou.noosa.Game;
 import com.watabou.noosa.Image;
-import com.watabou.noosa.RenderedText;
 import com.watabou.noosa.TextureFilm;
 import com.watabou.utils.Callback;
 import com.watabou.utils.SparseArray;
@@ -104,9 +103,7 @@ public class FloatingText extends RenderedTextBlock {
 				
 				float yMove = (DISTANCE / LIFESPAN) * Game.elapsed;
 				y -= yMove;
-				for (RenderedText t : words){
-					t.y -= yMove;
-				}
+				shiftText(0, -yMove);
 
 				if (icon != null){
 					icon.alpha(p > 0.5f ? 1 : p * 2);
@@ -163,26 +163,26 @@ public class Speck extends Image {
 			break;
 			
 		case STAR:
-			speed.polar( Random.Float( 2 * 3.1415926f ), Random.Float( 128 ) );
+			speed.polar( Random.Visual.Float( 2 * 3.1415926f ), Random.Visual.Float( 128 ) );
 			acc.set( 0, 128 );
-			angle = Random.Float( 360 );
-			angularSpeed = Random.Float( -360, +360 );
+			angle = Random.Visual.Float( 360 );
+			angularSpeed = Random.Visual.Float( -360, +360 );
 			lifespan = 1f;
 			break;
 		
 		case FORGE:
-			speed.polar( Random.Float( -3.1415926f ), Random.Float( 64 ) );
+			speed.polar( Random.Visual.Float( -3.1415926f ), Random.Visual.Float( 64 ) );
 			acc.set( 0, 128 );
-			angle = Random.Float( 360 );
-			angularSpeed = Random.Float( -360, +360 );
+			angle = Random.Visual.Float( 360 );
+			angularSpeed = Random.Visual.Float( -360, +360 );
 			lifespan = 0.51f;
 			break;
 			
 		case EVOKE:
-			speed.polar( Random.Float( -3.1415926f ), 50 );
+			speed.polar( Random.Visual.Float( -3.1415926f ), 50 );
 			acc.set( 0, 50 );
-			angle = Random.Float( 360 );
-			angularSpeed = Random.Float( -180, +180 );
+			angle = Random.Visual.Float( 360 );
+			angularSpeed = Random.Visual.Float( -180, +180 );
 			lifespan = 1f;
 			break;
 
@@ -195,7 +195,7 @@ public class Speck extends Image {
 			break;
 
 		case CROWN:
-			acc.set( index % 2 == 0 ? Random.Float( -512, -256 ) : Random.Float( +256, +512 ), 0 );
+			acc.set( index % 2 == 0 ? Random.Visual.Float( -512, -256 ) : Random.Visual.Float( +256, +512 ), 0 );
 			angularSpeed = acc.x < 0 ? -180 : +180;
 			//acc.set( -speed.x, 0 );
 			lifespan = 0.5f;
@@ -204,13 +204,13 @@ public class Speck extends Image {
 		case RED_LIGHT:
 			tint(0xFFCC0000);
 		case LIGHT:
-			angle = Random.Float( 360 );
+			angle = Random.Visual.Float( 360 );
 			angularSpeed = 90;
 			lifespan = 1f;
 			break;
 			
 		case DISCOVER:
-			angle = Random.Float( 360 );
+			angle = Random.Visual.Float( 360 );
 			angularSpeed = 90;
 			lifespan = 0.5f;
 			am = 0;
@@ -233,9 +233,9 @@ public class Speck extends Image {
 			
 		case BONE:
 			lifespan = 0.2f;
-			speed.polar( Random.Float( 2 * 3.1415926f ), 24 / lifespan );
+			speed.polar( Random.Visual.Float( 2 * 3.1415926f ), 24 / lifespan );
 			acc.set( 0, 128 );
-			angle = Random.Float( 360 );
+			angle = Random.Visual.Float( 360 );
 			angularSpeed = 360;
 			break;
 			
@@ -243,137 +243,137 @@ public class Speck extends Image {
 			lifespan = 0.5f;
 			speed.set( 0, -100 );
 			acc.set( 0, -2 * speed.y / lifespan );
-			angle = Random.Float( 360 );
+			angle = Random.Visual.Float( 360 );
 			angularSpeed = 360;
 			break;
 			
 		case WOOL:
 			lifespan = 0.5f;
 			speed.set( 0, -50 );
-			angle = Random.Float( 360 );
-			angularSpeed = Random.Float( -360, +360 );
+			angle = Random.Visual.Float( 360 );
+			angularSpeed = Random.Visual.Float( -360, +360 );
 			break;
 			
 		case ROCK:
-			angle = Random.Float( 360 );
-			angularSpeed = Random.Float( -360, +360 );
-			scale.set( Random.Float( 1, 2 ) );
+			angle = Random.Visual.Float( 360 );
+			angularSpeed = Random.Visual.Float( -360, +360 );
+			scale.set( Random.Visual.Float( 1, 2 ) );
 			speed.set( 0, 64 );
 			lifespan = 0.2f;
 			this.y -= speed.y * lifespan;
 			break;
 			
 		case NOTE:
-			angularSpeed = Random.Float( -30, +30 );
+			angularSpeed = Random.Visual.Float( -30, +30 );
 			speed.polar( (angularSpeed - 90) * PointF.G2R, 30 );
 			lifespan = 1f;
 			break;
 			
 		case CHANGE:
-			angle = Random.Float( 360 );
-			speed.polar( (angle - 90) * PointF.G2R, Random.Float( 4, 12 ) );
+			angle = Random.Visual.Float( 360 );
+			speed.polar( (angle - 90) * PointF.G2R, Random.Visual.Float( 4, 12 ) );
 			lifespan = 1.5f;
 			break;
 			
 		case HEART:
-			speed.set( Random.IntRange( -10, +10 ), -40 );
-			angularSpeed = Random.Float( -45, +45 );
+			speed.set( Random.Visual.IntRange( -10, +10 ), -40 );
+			angularSpeed = Random.Visual.Float( -45, +45 );
 			lifespan = 1f;
 			break;
 			
 		case BUBBLE:
 			speed.set( 0, -15 );
-			scale.set( PixelScene.align(Random.Float( 0.8f, 1 )) );
-			lifespan = Random.Float( 0.8f, 1.5f );
+			scale.set( PixelScene.align(Random.Visual.Float( 0.8f, 1 )) );
+			lifespan = Random.Visual.Float( 0.8f, 1.5f );
 			break;
 			
 		case STEAM:
-			speed.y = -Random.Float( 10, 15 );
-			angularSpeed = Random.Float( +180 );
-			angle = Random.Float( 360 );
+			speed.y = -Random.Visual.Float( 10, 15 );
+			angularSpeed = Random.Visual.Float( +180 );
+			angle = Random.Visual.Float( 360 );
 			lifespan = 1f;
 			break;
 			
 		case JET:
 			speed.y = +32;
 			acc.y = -64;
-			angularSpeed = Random.Float( 180, 360 );
-			angle = Random.Float( 360 );
+			angularSpeed = Random.Visual.Float( 180, 360 );
+			angle = Random.Visual.Float( 360 );
 			lifespan = 0.5f;
 			break;
 			
 		case TOXIC:
 			hardlight( 0x50FF60 );
 			angularSpeed = 30;
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 3f );
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 3f );
 			break;
 
 		case CORROSION:
 			hardlight( 0xAAAAAA );
 			angularSpeed = 30;
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 3f );
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 3f );
 			break;
 			
 		case PARALYSIS:
 			hardlight( 0xFFFF66 );
 			angularSpeed = -30;
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 3f );
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 3f );
 			break;
 
 		case STENCH:
 			hardlight( 0x003300 );
 			angularSpeed = -30;
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 3f );
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 3f );
 			break;
 
 		case CONFUSION:
-			hardlight( Random.Int( 0x1000000 ) | 0x000080 );
-			angularSpeed = Random.Float( -20, +20 );
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 3f );
+			hardlight( Random.Visual.Int( 0x1000000 ) | 0x000080 );
+			angularSpeed = Random.Visual.Float( -20, +20 );
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 3f );
 			break;
 			
 		case STORM:
 			hardlight( 0x8AD8D8 );
-			angularSpeed = Random.Float( -20, +20 );
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 3f );
+			angularSpeed = Random.Visual.Float( -20, +20 );
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 3f );
 			break;
 			
 		case INFERNO:
 			hardlight( 0xEE7722 );
-			angularSpeed = Random.Float( 200, 300 ) * (Random.Int(2) == 0 ? -1 : 1);
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 3f );
+			angularSpeed = Random.Visual.Float( 200, 300 ) * (Random.Visual.Int(2) == 0 ? -1 : 1);
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 3f );
 			break;
 			
 		case BLIZZARD:
 			hardlight( 0xFFFFFF );
-			angularSpeed = Random.Float( 200, 300 ) * (Random.Int(2) == 0 ? -1 : 1);
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 3f );
+			angularSpeed = Random.Visual.Float( 200, 300 ) * (Random.Visual.Int(2) == 0 ? -1 : 1);
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 3f );
 			break;
 			
 		case SMOKE:
 			hardlight( 0x000000 );
 			angularSpeed = 30;
-			angle = Random.Float( 360 );
-			lifespan = Random.Float( 1f, 1.5f );
+			angle = Random.Visual.Float( 360 );
+			lifespan = Random.Visual.Float( 1f, 1.5f );
 			break;
 
 		case DUST:
 			hardlight( 0xFFFF66 );
-			angle = Random.Float( 360 );
-			speed.polar( Random.Float( 2 * 3.1415926f ), Random.Float( 16, 48 ) );
+			angle = Random.Visual.Float( 360 );
+			speed.polar( Random.Visual.Float( 2 * 3.1415926f ), Random.Visual.Float( 16, 48 ) );
 			lifespan = 0.5f;
 			break;
 
 		case COIN:
-			speed.polar( -PointF.PI * Random.Float( 0.3f, 0.7f ), Random.Float( 48, 96 ) );
+			speed.polar( -PointF.PI * Random.Visual.Float( 0.3f, 0.7f ), Random.Visual.Float( 48, 96 ) );
 			acc.y = 256;
 			lifespan = -speed.y / acc.y * 2;
 			break;
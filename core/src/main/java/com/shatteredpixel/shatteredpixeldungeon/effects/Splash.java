@@ -128,8 +128,8 @@ public class Splash {
 		public void emit( Emitter emitter, int index, float x, float y ) {
 			PixelParticle p = (PixelParticle)emitter.recycle( PixelParticle.Shrinking.class );
 			
-			p.reset( x, y, color, 4, Random.Float( 0.5f, 1.0f ) );
-			p.speed.polar( Random.Float( dir - cone / 2, dir + cone / 2 ), Random.Float( 40, 80 ) );
+			p.reset( x, y, color, 4, Random.Visual.Float( 0.5f, 1.0f ) );
+			p.speed.polar( Random.Visual.Float( dir - cone / 2, dir + cone / 2 ), Random.Visual.Float( 40, 80 ) );
 			p.acc.set( 0, +100 );
 		}
 	}
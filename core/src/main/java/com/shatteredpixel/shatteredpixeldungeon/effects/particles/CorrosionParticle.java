@@ -66,7 +66,7 @@ public class CorrosionParticle extends PixelParticle {
 		
 		left = lifespan;
 		
-		speed.polar( -Random.Float( 3.1415926f ), Random.Float( 6 ) );
+		speed.polar( -Random.Visual.Float( 3.1415926f ), Random.Visual.Float( 6 ) );
 	}
 	
 	public void resetSplash( float x, float y ) {
@@ -77,7 +77,7 @@ public class CorrosionParticle extends PixelParticle {
 		
 		left = lifespan;
 		
-		speed.polar( Random.Float( 3.1415926f ), Random.Float( 10, 20 ) );
+		speed.polar( Random.Visual.Float( 3.1415926f ), Random.Visual.Float( 10, 20 ) );
 	}
 	
 	@Override
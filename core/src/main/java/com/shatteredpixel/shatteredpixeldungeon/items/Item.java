@@ -44,6 +44,7 @@ import com.shatteredpixel.shatteredpixeldungeon.scenes.GameScene;
 import com.shatteredpixel.shatteredpixeldungeon.sprites.ItemSprite;
 import com.shatteredpixel.shatteredpixeldungeon.sprites.MissileSprite;
 import com.shatteredpixel.shatteredpixeldungeon.ui.QuickSlotButton;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 import com.watabou.noosa.audio.Sample;
 import com.watabou.noosa.particles.Emitter;
 import com.watabou.utils.Bundlable;
@@ -151,6 +152,8 @@ public class Item implements Bundlable {
 	
 	public void execute( Hero hero, String action ) {
 
+		InputJournal.execute( this, action );
+
 		GameScene.cancel();
 		curUser = hero;
 		curItem = this;
@@ -600,7 +603,7 @@ public class Item implements Bundlable {
 	}
 
 	public int throwPos( Hero user, int dst){
-		return new Ballistica( user.pos, dst, Ballistica.PROJECTILE ).collisionPos;
+		return Ballistica.findCollision(user.pos, dst, Ballistica.PROJECTILE);
 	}
 
 	public void throwSound(){
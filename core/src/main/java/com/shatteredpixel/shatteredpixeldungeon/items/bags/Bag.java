@@ -49,7 +49,27 @@ public class Bag extends Item implements Iterable<Item> {
 	
 	public Char owner;
 	
-	public ArrayList<Item> items = new ArrayList<>();
+	public ArrayList<Item> items = new ItemList();
+
+	//exposes the list's modification count, so that lookups into bag contents can be cached
+	// until items are added, removed, or reordered
+	public static class ItemList extends ArrayList<Item> {
+		private static final long serialVersionUID = 1L;
+
+		public int modCount(){
+			return modCount;
+		}
+	}
+
+	//changes whenever the contents of this bag (but not of nested bags) change
+	//returns -1 if items has been replaced with a list that can't be tracked
+	public int contentsVersion(){
+		if (items instanceof ItemList){
+			return ((ItemList)items).modCount();
+		} else {
+			return -1;
+		}
+	}
 
 	public int capacity(){
 		return 20; // default container size
@@ -183,7 +203,7 @@ public class Bag extends Item implements Iterable<Item> {
 			return false;
 		}
 
-		if (items.contains(item) || item instanceof Bag || items.size() < capacity()){
+		if (item instanceof Bag || items.size() < capacity() || items.contains(item)){
 			return true;
 		} else if (item.stackable) {
 			for (Item i : items) {
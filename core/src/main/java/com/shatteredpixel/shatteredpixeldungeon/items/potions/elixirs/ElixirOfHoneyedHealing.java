@@ -61,7 +61,7 @@ public class ElixirOfHoneyedHealing extends Elixir {
 			PotionOfHealing.cure(ch);
 			PotionOfHealing.heal(ch);
 			if (ch instanceof Bee && ch.alignment != curUser.alignment){
-				ch.alignment = Char.Alignment.ALLY;
+				ch.alignment( Char.Alignment.ALLY );
 				((Bee)ch).setPotInfo(-1, null);
 			}
 		}
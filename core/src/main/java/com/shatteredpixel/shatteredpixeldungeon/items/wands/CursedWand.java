@@ -399,7 +399,7 @@ public class CursedWand {
 
 				Mimic mimic = Mimic.spawnAt(spawnCell, GoldenMimic.class, false);
 				mimic.stopHiding();
-				mimic.alignment = Char.Alignment.ENEMY;
+				mimic.alignment( Char.Alignment.ENEMY );
 				//play vfx/sfx manually as mimic isn't in the scene yet
 				Sample.INSTANCE.play(Assets.Sounds.MIMIC, 1, 0.85f);
 				CellEmitter.get(mimic.pos).burst(Speck.factory(Speck.STAR), 10);
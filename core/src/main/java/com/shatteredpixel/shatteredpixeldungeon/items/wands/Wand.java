@@ -122,7 +122,7 @@ public abstract class Wand extends Item {
 
 	@Override
 	public int targetingPos(Hero user, int dst) {
-		return new Ballistica( user.pos, dst, collisionProperties ).collisionPos;
+		return Ballistica.findCollision(user.pos, dst, collisionProperties);
 	}
 
 	public abstract void onZap(Ballistica attack);
@@ -21,8 +21,8 @@
 
 package com.shatteredpixel.shatteredpixeldungeon.journal;
 
-import com.shatteredpixel.shatteredpixeldungeon.ShatteredPixelDungeon;
 import com.watabou.utils.Bundle;
+import com.watabou.utils.Callback;
 import com.watabou.utils.FileUtils;
 
 import java.io.IOException;
@@ -53,7 +53,7 @@ public class Journal {
 	}
 	
 	//package-private
-	static boolean saveNeeded = false;
+	static volatile boolean saveNeeded = false;
 
 	public static void saveGlobal(){
 		saveGlobal(false);
@@ -69,12 +69,14 @@ public class Journal {
 		Catalog.store(bundle);
 		Document.store(bundle);
 		
-		try {
-			FileUtils.bundleToFile( JOURNAL_FILE, bundle );
-			saveNeeded = false;
-		} catch (IOException e) {
-			ShatteredPixelDungeon.reportException(e);
-		}
+		//if the write fails, the journal is saved again next time
+		saveNeeded = false;
+		FileUtils.bundleToFileLater( JOURNAL_FILE, bundle, new Callback() {
+			@Override
+			public void call() {
+				saveNeeded = true;
+			}
+		});
 		
 	}
 
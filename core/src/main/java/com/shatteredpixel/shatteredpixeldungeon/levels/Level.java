@@ -101,6 +101,7 @@ import com.watabou.utils.Bundle;
 import com.watabou.utils.GameMath;
 import com.watabou.utils.PathFinder;
 import com.watabou.utils.Point;
+import com.watabou.utils.Profiler;
 import com.watabou.utils.Random;
 import com.watabou.utils.Reflection;
 import com.watabou.utils.SparseArray;
@@ -108,6 +109,7 @@ import com.watabou.utils.SparseArray;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 
@@ -151,6 +153,9 @@ public abstract class Level implements Bundlable {
 	public boolean[] pit;
 
 	public boolean[] openSpace;
+
+	//incremented whenever the flag maps above change, not saved
+	private int terrainVersion = 0;
 	
 	public Feeling feeling = Feeling.NONE;
 	
@@ -163,6 +168,8 @@ public abstract class Level implements Bundlable {
 	public boolean locked = false;
 	
 	public HashSet<Mob> mobs;
+	//mobs split up by alignment, see mobsOf
+	private EnumMap<Char.Alignment, ArrayList<Mob>> mobsByAlignment = null;
 	public SparseArray<Heap> heaps;
 	public HashMap<Class<? extends Blob>,Blob> blobs;
 	public SparseArray<Plant> plants;
@@ -195,6 +202,55 @@ public abstract class Level implements Bundlable {
 	private static final String BLOBS		= "blobs";
 	private static final String FEELING		= "feeling";
 
+	//returns the mobs on this level which have the given alignment, so that looking for potential
+	// targets doesn't have to go over every mob. The result must not be modified.
+	public synchronized ArrayList<Mob> mobsOf( Char.Alignment alignment ){
+		if (mobsByAlignment == null){
+			mobsByAlignment = new EnumMap<>(Char.Alignment.class);
+			for (Char.Alignment a : Char.Alignment.values()){
+				mobsByAlignment.put(a, new ArrayList<Mob>());
+			}
+			for (Mob mob : mobs.toArray(new Mob[0])){
+				if (mob.alignment != null) {
+					mobsByAlignment.get(mob.alignment).add(mob);
+				}
+			}
+		}
+		return mobsByAlignment.get(alignment);
+	}
+
+	//should be called whenever a mob on this level changes alignment, see Char.alignment(Alignment)
+	public synchronized void alignmentsChanged(){
+		mobsByAlignment = null;
+	}
+
+	//mobs are rarely added or removed compared to how often they are searched through,
+	// so the alignment lists are just rebuilt when they are next needed
+	private class MobSet extends HashSet<Mob> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public boolean add(Mob mob) {
+			boolean result = super.add(mob);
+			alignmentsChanged();
+			return result;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			boolean result = super.remove(o);
+			alignmentsChanged();
+			return result;
+		}
+
+		@Override
+		public void clear() {
+			super.clear();
+			alignmentsChanged();
+		}
+	}
+
 	public void create() {
 
 		Random.pushGenerator( Dungeon.seedCurDepth() );
@@ -281,7 +337,7 @@ public abstract class Level implements Bundlable {
 
 			transitions = new ArrayList<>();
 
-			mobs = new HashSet<>();
+			mobs = new MobSet();
 			heaps = new SparseArray<>();
 			blobs = new HashMap<>();
 			plants = new SparseArray<>();
@@ -354,7 +410,7 @@ public abstract class Level implements Bundlable {
 
 		setSize( bundle.getInt(WIDTH), bundle.getInt(HEIGHT));
 		
-		mobs = new HashSet<>();
+		mobs = new MobSet();
 		heaps = new SparseArray<>();
 		blobs = new HashMap<>();
 		plants = new SparseArray<>();
@@ -820,6 +876,8 @@ public abstract class Level implements Bundlable {
 	}
 
 	public void buildFlagMaps() {
+
+		terrainVersion++;
 		
 		for (int i=0; i < length(); i++) {
 			int flags = Terrain.flags[map[i]];
@@ -851,24 +909,29 @@ public abstract class Level implements Bundlable {
 			losBlocking[i + width()-1] = solid[i + width()-1] = true;
 		}
 
-		//an open space is large enough to fit large mobs. A space is open when it is not solid
-		// and there is an open corner with both adjacent cells opens
 		for (int i=0; i < length(); i++) {
-			if (solid[i]){
-				openSpace[i] = false;
-			} else {
-				for (int j = 1; j < PathFinder.CIRCLE8.length; j += 2){
-					if (solid[i+PathFinder.CIRCLE8[j]]) {
-						openSpace[i] = false;
-					} else if (!solid[i+PathFinder.CIRCLE8[(j+1)%8]]
-							&& !solid[i+PathFinder.CIRCLE8[(j+2)%8]]){
-						openSpace[i] = true;
-						break;
-					}
+			updateOpenSpace(i);
+		}
+
+	}
+
+	//an open space is large enough to fit large mobs. A space is open when it is not solid
+	// and there is an open corner with both adjacent cells opens
+	//this only depends on the solid flags of the cell and its neighbours
+	private void updateOpenSpace( int cell ){
+		if (solid[cell]){
+			openSpace[cell] = false;
+		} else {
+			for (int j = 1; j < PathFinder.CIRCLE8.length; j += 2){
+				if (solid[cell+PathFinder.CIRCLE8[j]]) {
+					openSpace[cell] = false;
+				} else if (!solid[cell+PathFinder.CIRCLE8[(j+1)%8]]
+						&& !solid[cell+PathFinder.CIRCLE8[(j+2)%8]]){
+					openSpace[cell] = true;
+					break;
 				}
 			}
 		}
-
 	}
 
 	public void destroy( int pos ) {
@@ -905,6 +968,10 @@ public abstract class Level implements Bundlable {
 		}
 	}
 	
+	public int terrainVersion(){
+		return terrainVersion;
+	}
+
 	public static void set( int cell, int terrain ){
 		set( cell, terrain, Dungeon.level );
 	}
@@ -916,6 +983,9 @@ public abstract class Level implements Bundlable {
 			level.traps.remove( cell );
 		}
 
+		boolean wasSolid = level.solid[cell];
+		level.terrainVersion++;
+
 		int flags = Terrain.flags[terrain];
 		level.passable[cell]		= (flags & Terrain.PASSABLE) != 0;
 		level.losBlocking[cell]	    = (flags & Terrain.LOS_BLOCKING) != 0;
@@ -926,20 +996,10 @@ public abstract class Level implements Bundlable {
 		level.pit[cell]			    = (flags & Terrain.PIT) != 0;
 		level.water[cell]			= terrain == Terrain.WATER;
 
-		for (int i : PathFinder.NEIGHBOURS9){
-			i = cell + i;
-			if (level.solid[i]){
-				level.openSpace[i] = false;
-			} else {
-				for (int j = 1; j < PathFinder.CIRCLE8.length; j += 2){
-					if (level.solid[i+PathFinder.CIRCLE8[j]]) {
-						level.openSpace[i] = false;
-					} else if (!level.solid[i+PathFinder.CIRCLE8[(j+1)%8]]
-							&& !level.solid[i+PathFinder.CIRCLE8[(j+2)%8]]){
-						level.openSpace[i] = true;
-						break;
-					}
-				}
+		//open space only needs updating around the cell if its solidity changed
+		if (wasSolid != level.solid[cell]) {
+			for (int i : PathFinder.NEIGHBOURS9) {
+				level.updateOpenSpace(cell + i);
 			}
 		}
 	}
@@ -1240,6 +1300,8 @@ public abstract class Level implements Bundlable {
 
 	public void updateFieldOfView( Char c, boolean[] fieldOfView ) {
 
+		long start = Profiler.begin();
+
 		int cx = c.pos % width();
 		int cy = c.pos / width();
 		
@@ -1444,6 +1506,7 @@ public abstract class Level implements Bundlable {
 					heap.seen = true;
 		}
 
+		Profiler.end("Level.updateFieldOfView", start);
 	}
 
 	public boolean isLevelExplored( int depth ){
@@ -125,7 +125,7 @@ public class DistortionTrap extends Trap{
 						case 2:
 							mob = Mimic.spawnAt(point, false);
 							((Mimic)mob).stopHiding();
-							mob.alignment = Char.Alignment.ENEMY;
+							mob.alignment( Char.Alignment.ENEMY );
 							break;
 						case 3:
 							mob = Statue.random(false);
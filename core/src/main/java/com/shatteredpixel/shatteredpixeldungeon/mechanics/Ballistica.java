@@ -25,18 +25,27 @@ import com.shatteredpixel.shatteredpixeldungeon.Dungeon;
 import com.shatteredpixel.shatteredpixeldungeon.ShatteredPixelDungeon;
 import com.shatteredpixel.shatteredpixeldungeon.actors.Actor;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Ballistica {
 
 	//note that the path is the FULL path of the projectile, including tiles after collision.
 	//make sure to generate a subPath for the common case of going source to collision.
-	public ArrayList<Integer> path = new ArrayList<>();
-	public Integer sourcePos = null;
-	public Integer collisionPos = null;
-	public Integer collisionProperties = null;
-	public Integer dist = 0;
+	//path is a read-only view of the primitive cell array, use cell() and pathLength() to avoid boxing.
+	public final List<Integer> path = new PathView();
+	public int sourcePos;
+	public int collisionPos;
+	public int collisionProperties;
+	public int dist = 0;
+
+	private int[] cells = new int[32];
+	private int length = 0;
+	private boolean collided;
 
 	//parameters to specify the colliding cell
 	public static final int STOP_TARGET = 1;    //ballistica will stop at the target cell
@@ -52,23 +61,50 @@ public class Ballistica {
 
 
 	public Ballistica( int from, int to, int params ){
+		trace(from, to, params);
+	}
+
+	//an empty ballistica, intended to be reused by calling trace()
+	public Ballistica(){
+	}
+
+	//recalculates this ballistica for a new source, target, and params, reusing its memory.
+	//note that this also changes any views of the path that were previously handed out.
+	public Ballistica trace( int from, int to, int params ){
 		sourcePos = from;
 		collisionProperties = params;
+		length = 0;
+		collided = false;
 		build(from, to,
 				(params & STOP_TARGET) > 0,
 				(params & STOP_CHARS) > 0,
 				(params & STOP_SOLID) > 0,
 				(params & IGNORE_SOFT_SOLID) > 0);
 
-		if (collisionPos != null) {
-			dist = path.indexOf(collisionPos);
-		} else if (!path.isEmpty()) {
-			collisionPos = path.get(dist = path.size() - 1);
-		} else {
-			path.add(from);
-			collisionPos = from;
-			dist = 0;
+		if (!collided) {
+			if (length > 0) {
+				collisionPos = cells[dist = length - 1];
+			} else {
+				add(from);
+				collisionPos = from;
+				dist = 0;
+			}
 		}
+		return this;
+	}
+
+	//a spare instance which is reused when only the collision cell is needed
+	//this is taken rather than locked, so a new instance is only made if two threads trace at once
+	private static final AtomicReference<Ballistica> spare = new AtomicReference<>(new Ballistica());
+
+	public static int findCollision( int from, int to, int params ){
+		Ballistica b = spare.getAndSet(null);
+		if (b == null){
+			b = new Ballistica();
+		}
+		int collision = b.trace(from, to, params).collisionPos;
+		spare.set(b);
+		return collision;
 	}
 
 	private void build( int from, int to, boolean stopTarget, boolean stopChars, boolean stopTerrain, boolean ignoreSoftSolid ) {
@@ -116,29 +152,29 @@ public class Ballistica {
 
 			//if we're in solid terrain, and there's no char there, collide with the previous cell.
 			// we don't use solid here because we don't want to stop short of closed doors.
-			if (collisionPos == null
+			if (!collided
 					&& stopTerrain
 					&& cell != sourcePos
 					&& !Dungeon.level.passable[cell]
 					&& !Dungeon.level.avoid[cell]
 					&& Actor.findChar(cell) == null) {
-				collide(path.get(path.size() - 1));
+				collide(length - 1);
 			}
 
-			path.add(cell);
+			add(cell);
 
-			if (collisionPos == null && stopTerrain && cell != sourcePos && Dungeon.level.solid[cell]) {
+			if (!collided && stopTerrain && cell != sourcePos && Dungeon.level.solid[cell]) {
 				if (ignoreSoftSolid && (Dungeon.level.passable[cell] || Dungeon.level.avoid[cell])) {
 					//do nothing
 				} else {
-					collide(cell);
+					collide(length - 1);
 				}
 			}
-			if (collisionPos == null && cell != sourcePos && stopChars && Actor.findChar( cell ) != null) {
-				collide(cell);
+			if (!collided && cell != sourcePos && stopChars && Actor.findChar( cell ) != null) {
+				collide(length - 1);
 			}
-			if (collisionPos == null && cell == to && stopTarget){
-				collide(cell);
+			if (!collided && cell == to && stopTarget){
+				collide(length - 1);
 			}
 
 			cell += stepA;
@@ -151,22 +187,56 @@ public class Ballistica {
 		}
 	}
 
+	private void add(int cell){
+		if (length == cells.length){
+			cells = Arrays.copyOf(cells, length * 2);
+		}
+		cells[length++] = cell;
+	}
+
 	//we only want to record the first position collision occurs at.
-	private void collide(int cell){
-		if (collisionPos == null) {
-			collisionPos = cell;
+	private void collide(int index){
+		if (!collided) {
+			collided = true;
+			collisionPos = cells[index];
+			dist = index;
 		}
 	}
 
-	//returns a segment of the path from start to end, inclusive.
+	public int pathLength(){
+		return length;
+	}
+
+	public int cell(int index){
+		if (index < 0 || index >= length){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+		}
+		return cells[index];
+	}
+
+	//returns a segment of the path from start to end, inclusive. This is a view and is not copied.
 	//if there is an error, returns an empty arraylist instead.
 	public List<Integer> subPath(int start, int end){
 		try {
-			end = Math.min( end, path.size()-1);
+			end = Math.min( end, length-1);
 			return path.subList(start, end+1);
 		} catch (Exception e){
 			ShatteredPixelDungeon.reportException(e);
 			return new ArrayList<>();
 		}
 	}
+
+	private class PathView extends AbstractList<Integer> implements RandomAccess {
+
+		@Override
+		public Integer get(int index) {
+			return cell(index);
+		}
+
+		@Override
+		public int size() {
+			return length;
+		}
+
+	}
 }
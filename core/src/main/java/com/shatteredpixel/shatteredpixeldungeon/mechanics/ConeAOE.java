@@ -26,9 +26,14 @@ import com.watabou.utils.GameMath;
 import com.watabou.utils.Point;
 import com.watabou.utils.PointF;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 //a cone made of up several ballisticas scanning in an arc
 public class ConeAOE {
@@ -36,8 +41,30 @@ public class ConeAOE {
 	public Ballistica coreRay;
 
 	public ArrayList<Ballistica> outerRays = new ArrayList<>();
-	public ArrayList<Ballistica> rays = new ArrayList<>();
-	public HashSet<Integer> cells = new HashSet<>();
+	//the cells in the cone in ascending order, as a read-only view of a primitive array
+	public final Set<Integer> cells = new CellView();
+
+	private int[] coneCells;
+
+	//every cell a ray was cast to, going clockwise. Only the outer rays are kept,
+	// the rest are traced into a shared ballistica and only rebuilt if all rays are needed
+	private int sourcePos;
+	private int ballisticaParams;
+	private int[] targets;
+	private boolean[] outerTargets;
+	private ArrayList<Ballistica> rays;
+
+	//working memory for building a cone, this is taken rather than locked like Ballistica's spare instance
+	private static class Scratch {
+		BitSet targetCells = new BitSet();
+		BitSet outerCells = new BitSet();
+		BitSet coneCells = new BitSet();
+		int[] targets = new int[64];
+		boolean[] outerTargets = new boolean[64];
+		Ballistica ray = new Ballistica();
+	}
+
+	private static final AtomicReference<Scratch> spare = new AtomicReference<>(new Scratch());
 
 	public ConeAOE( Ballistica core, float degrees ){
 		this( core, Float.POSITIVE_INFINITY, degrees, core.collisionProperties );
@@ -46,6 +73,13 @@ public class ConeAOE {
 	public ConeAOE( Ballistica core, float maxDist, float degrees, int ballisticaParams ){
 
 		coreRay = core;
+		sourcePos = core.sourcePos;
+		this.ballisticaParams = ballisticaParams;
+
+		Scratch scratch = spare.getAndSet(null);
+		if (scratch == null){
+			scratch = new Scratch();
+		}
 
 		//we want to use true coordinates for our trig functions, not game cells
 		// so get the center of from and to as points
@@ -72,8 +106,7 @@ public class ConeAOE {
 		Point scanInt = new Point();
 		float initalAngle = PointF.angle(fromP, toP)/PointF.G2R;
 		//want to preserve order so that our collection of rays is going clockwise
-		LinkedHashSet<Integer> targetCells = new LinkedHashSet<>();
-		LinkedHashSet<Integer> outerCells = new LinkedHashSet<>();
+		int targetCount = 0;
 
 		//cast a ray every 0.5 degrees in a clockwise arc, to find cells along the cone's outer arc
 		for (float a = initalAngle+degrees/2f; a >= initalAngle-degrees/2f; a-=0.5f){
@@ -84,8 +117,8 @@ public class ConeAOE {
 			scanInt.set(
 					(int)GameMath.gate(0, (int)Math.floor(scan.x), Dungeon.level.width()-1),
 					(int)GameMath.gate(0, (int)Math.floor(scan.y), Dungeon.level.height()-1));
-			targetCells.add(Dungeon.level.pointToCell(scanInt));
-			outerCells.add(Dungeon.level.pointToCell(scanInt));
+			targetCount = addTarget(scratch, targetCount, Dungeon.level.pointToCell(scanInt));
+			scratch.outerCells.set(Dungeon.level.pointToCell(scanInt));
 			//if the cone is large enough, also cast rays to cells just inside of the outer arc
 			// this helps fill in any holes when casting rays
 			if (circleRadius >= 4) {
@@ -96,19 +129,105 @@ public class ConeAOE {
 				scanInt.set(
 						(int)GameMath.gate(0, (int)Math.floor(scan.x), Dungeon.level.width()-1),
 						(int)GameMath.gate(0, (int)Math.floor(scan.y), Dungeon.level.height()-1));
-				targetCells.add(Dungeon.level.pointToCell(scanInt));
+				targetCount = addTarget(scratch, targetCount, Dungeon.level.pointToCell(scanInt));
 			}
 		}
 
 		//cast a ray to each found cell, these make up the cone
 		//we don't add the core ray as its collision properties may differ from the cone
-		for( int c : targetCells ){
-			Ballistica ray = new Ballistica(core.sourcePos, c, ballisticaParams);
-			cells.addAll(ray.subPath(1, ray.dist));
-			rays.add(ray);
-			if (outerCells.contains(c)){
+		for (int i = 0; i < targetCount; i++){
+			int c = scratch.targets[i];
+			Ballistica ray;
+			if (scratch.outerCells.get(c)){
+				ray = new Ballistica(core.sourcePos, c, ballisticaParams);
 				outerRays.add(ray);
+				scratch.outerTargets[i] = true;
+			} else {
+				ray = scratch.ray.trace(core.sourcePos, c, ballisticaParams);
+				scratch.outerTargets[i] = false;
 			}
+			for (int j = 1; j <= ray.dist; j++){
+				scratch.coneCells.set(ray.cell(j));
+			}
+		}
+
+		//the bitset already has the cells in ascending order
+		coneCells = new int[scratch.coneCells.cardinality()];
+		int cell = -1;
+		for (int i = 0; i < coneCells.length; i++){
+			cell = scratch.coneCells.nextSetBit(cell + 1);
+			coneCells[i] = cell;
+		}
+
+		targets = Arrays.copyOf(scratch.targets, targetCount);
+		outerTargets = Arrays.copyOf(scratch.outerTargets, targetCount);
+
+		scratch.targetCells.clear();
+		scratch.outerCells.clear();
+		scratch.coneCells.clear();
+		spare.set(scratch);
+	}
+
+	private static int addTarget( Scratch scratch, int count, int cell ){
+		if (scratch.targetCells.get(cell)){
+			return count;
+		}
+		scratch.targetCells.set(cell);
+		if (count == scratch.targets.length){
+			scratch.targets = Arrays.copyOf(scratch.targets, count * 2);
+			scratch.outerTargets = Arrays.copyOf(scratch.outerTargets, count * 2);
+		}
+		scratch.targets[count] = cell;
+		return count + 1;
+	}
+
+	//a ray to every cell used to build the cone, going clockwise and including the outer rays.
+	//rays which aren't outer rays are rebuilt on first use, so this should be called right after creating the cone
+	public ArrayList<Ballistica> rays(){
+		if (rays == null){
+			rays = new ArrayList<>(targets.length);
+			int outer = 0;
+			for (int i = 0; i < targets.length; i++){
+				if (outerTargets[i]){
+					rays.add(outerRays.get(outer++));
+				} else {
+					rays.add(new Ballistica(sourcePos, targets[i], ballisticaParams));
+				}
+			}
+		}
+		return rays;
+	}
+
+	private class CellView extends AbstractSet<Integer> {
+
+		@Override
+		public boolean contains(Object o) {
+			return o instanceof Integer && Arrays.binarySearch(coneCells, (Integer)o) >= 0;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new Iterator<Integer>() {
+				int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return index < coneCells.length;
+				}
+
+				@Override
+				public Integer next() {
+					if (index >= coneCells.length){
+						throw new NoSuchElementException();
+					}
+					return coneCells[index++];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return coneCells.length;
 		}
 
 	}
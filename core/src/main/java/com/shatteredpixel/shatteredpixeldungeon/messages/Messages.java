@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IllegalFormatException;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
 	Simple wrapper class for libGDX I18NBundles.
@@ -75,6 +76,11 @@ public class Messages {
 			Assets.Messages.WINDOWS
 	};
 
+	//resolved strings for each class and key, including strings inherited from a superclass
+	//this saves building keys and searching bundles each time a string is needed
+	private static final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, String>> classStrings = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<String, String> keyStrings = new ConcurrentHashMap<>();
+
 	static{
 		setup(SPDSettings.language());
 	}
@@ -97,6 +103,9 @@ public class Messages {
 		for (String file : prop_files) {
 			bundles.add(I18NBundle.createBundle(Gdx.files.internal(file), bundleLocal));
 		}
+
+		classStrings.clear();
+		keyStrings.clear();
 	}
 
 
@@ -114,6 +123,35 @@ public class Messages {
 	}
 
 	public static String get(Class c, String k, Object...args){
+		String value = getResolved(c, k);
+		if (value != NO_TEXT_FOUND && args.length > 0){
+			return format(value, args);
+		} else {
+			return value;
+		}
+	}
+
+	private static String getResolved(Class<?> c, String k){
+		ConcurrentHashMap<String, String> strings;
+		if (c != null){
+			strings = classStrings.get(c);
+			if (strings == null){
+				strings = new ConcurrentHashMap<>();
+				classStrings.put(c, strings);
+			}
+		} else {
+			strings = keyStrings;
+		}
+
+		String value = strings.get(k);
+		if (value == null){
+			value = resolve(c, k);
+			strings.put(k, value);
+		}
+		return value;
+	}
+
+	private static String resolve(Class<?> c, String k){
 		String key;
 		if (c != null){
 			key = c.getName().replace("com.shatteredpixel.shatteredpixeldungeon.", "");
@@ -123,14 +161,13 @@ public class Messages {
 
 		String value = getFromBundle(key.toLowerCase(Locale.ENGLISH));
 		if (value != null){
-			if (args.length > 0) return format(value, args);
-			else return value;
+			return value;
 		} else {
 			//this is so child classes can inherit properties from their parents.
 			//in cases where text is commonly grabbed as a utility from classes that aren't mean to be instantiated
 			//(e.g. flavourbuff.dispTurns()) using .class directly is probably smarter to prevent unnecessary recursive calls.
 			if (c != null && c.getSuperclass() != null){
-				return get(c.getSuperclass(), k, args);
+				return getResolved(c.getSuperclass(), k);
 			} else {
 				return NO_TEXT_FOUND;
 			}
@@ -156,6 +193,10 @@ public class Messages {
 	 */
 
 	public static String format( String format, Object...args ) {
+		//strings without any format specifiers are returned as-is by String.format
+		if (format.indexOf('%') == -1){
+			return format;
+		}
 		try {
 			return String.format(Locale.ENGLISH, format, args);
 		} catch (IllegalFormatException e) {
@@ -29,6 +29,7 @@ import com.shatteredpixel.shatteredpixeldungeon.actors.Char;
 import com.shatteredpixel.shatteredpixeldungeon.actors.mobs.Mob;
 import com.shatteredpixel.shatteredpixeldungeon.items.Heap;
 import com.shatteredpixel.shatteredpixeldungeon.tiles.DungeonTilemap;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 import com.watabou.input.ControllerHandler;
 import com.watabou.input.GameAction;
 import com.watabou.input.KeyBindings;
@@ -155,6 +156,10 @@ public class CellSelector extends ScrollArea {
 
 			switch (button){
 				default:
+					//cells given to the default listener are journaled by the hero as it handles them
+					if (listener != GameScene.defaultCellListener) {
+						InputJournal.target( cell );
+					}
 					listener.onSelect( cell );
 					break;
 				case PointerEvent.RIGHT:
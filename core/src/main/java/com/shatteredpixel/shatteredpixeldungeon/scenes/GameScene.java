@@ -107,6 +107,7 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.Toast;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Toolbar;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
 import com.shatteredpixel.shatteredpixeldungeon.utils.GLog;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 import com.shatteredpixel.shatteredpixeldungeon.windows.WndBag;
 import com.shatteredpixel.shatteredpixeldungeon.windows.WndGame;
 import com.shatteredpixel.shatteredpixeldungeon.windows.WndHero;
@@ -140,6 +141,7 @@ import com.watabou.utils.DeviceCompat;
 import com.watabou.utils.GameMath;
 import com.watabou.utils.Point;
 import com.watabou.utils.PointF;
+import com.watabou.utils.Profiler;
 import com.watabou.utils.Random;
 import com.watabou.utils.RectF;
 
@@ -215,6 +217,7 @@ public class GameScene extends PixelScene {
 		}
 
 		Dungeon.level.playLevelMusic();
+		Sample.INSTANCE.prioritize( Assets.Sounds.game );
 
 		SPDSettings.lastClass(Dungeon.hero.heroClass.ordinal());
 		
@@ -280,6 +283,8 @@ public class GameScene extends PixelScene {
 		add(levelVisuals);
 
 		floorEmitters = new Group();
+		//emitters that are well outside of the camera don't need to be updated or drawn
+		floorEmitters.culling(true, true, 2*DungeonTilemap.SIZE);
 		add(floorEmitters);
 
 		heaps = new Group();
@@ -290,6 +295,7 @@ public class GameScene extends PixelScene {
 		}
 
 		emitters = new Group();
+		emitters.culling(true, true, 2*DungeonTilemap.SIZE);
 		effects = new Group();
 		healthIndicators = new Group();
 		emoicons = new Group();
@@ -680,7 +686,8 @@ public class GameScene extends PixelScene {
 
 	//the actor thread processes at a maximum of 60 times a second
 	//this caps the speed of resting for higher refresh rate displays
-	private float notifyDelay = 1/60f;
+	//used to report how many acts were processed each frame to the profiler
+	private long lastActCount = Actor.actCount();
 
 	public static boolean updateItemDisplays = false;
 
@@ -707,8 +714,6 @@ public class GameScene extends PixelScene {
 
 		super.update();
 
-		if (notifyDelay > 0) notifyDelay -= Game.elapsed;
-
 		if (!Emitter.freezeEmitters) water.offset( 0, -5 * Game.elapsed );
 
 		if (!Actor.processing() && Dungeon.hero.isAlive()) {
@@ -729,18 +734,36 @@ public class GameScene extends PixelScene {
 				Thread.currentThread().setName("SHPD Render Thread");
 				Actor.keepActorThreadAlive = true;
 				actorThread.start();
-			} else if (notifyDelay <= 0f) {
-				notifyDelay += 1/60f;
+			} else {
+				//actors only wait for the renderer when they have something to show, so they are woken every frame
+				//rather than being held to a fixed rate. Anything else keeps running on the actor thread
 				synchronized (actorThread) {
 					actorThread.notify();
 				}
 			}
 		}
 
+		long acts = Actor.actCount();
+		Profiler.count( Profiler.LOGIC_STEPS, (int)(acts - lastActCount) );
+		lastActCount = acts;
+
 		if (Dungeon.hero.ready && Dungeon.hero.paralysed == 0) {
 			log.newLine();
 		}
 
+		//the hero is the current actor and is waiting for input
+		if (InputJournal.replaying() && Dungeon.hero.ready && Actor.processing()) {
+			//only choices made in windows are journaled, so replays close windows unless a choice is next
+			if (!InputJournal.choiceNext()) {
+				for (Gizmo g : members.toArray(new Gizmo[0])) {
+					if (g instanceof Window) {
+						((Window) g).hide();
+					}
+				}
+			}
+			InputJournal.replayNext();
+		}
+
 		if (updateTags){
 			tagAttack = attack.active;
 			tagLoot = loot.visible;
@@ -1025,8 +1048,10 @@ public class GameScene extends PixelScene {
 	
 	public static void add( Mob mob, float delay ) {
 		Dungeon.level.mobs.add( mob );
-		scene.addMobSprite( mob );
-		Actor.addDelayed( mob, delay );
+		if (scene != null) {
+			scene.addMobSprite( mob );
+			Actor.addDelayed( mob, delay );
+		}
 	}
 	
 	public static void add( EmoIcon icon ) {
@@ -1051,7 +1076,7 @@ public class GameScene extends PixelScene {
 	}
 
 	public static void effectOverFog( Visual effect ) {
-		scene.overFogEffects.add( effect );
+		if (scene != null) scene.overFogEffects.add( effect );
 	}
 	
 	public static Ripple ripple( int pos ) {
@@ -1224,6 +1249,7 @@ public class GameScene extends PixelScene {
 			}
 
 			scene.addToFront(wnd);
+			InputJournal.offer(wnd);
 		}
 	}
 
@@ -1407,7 +1433,7 @@ public class GameScene extends PixelScene {
 	}
 	
 	public static boolean cancelCellSelector() {
-		if (cellSelector.listener != null && cellSelector.listener != defaultCellListener) {
+		if (scene != null && cellSelector.listener != null && cellSelector.listener != defaultCellListener) {
 			cellSelector.resetKeyHold();
 			cellSelector.cancel();
 			return true;
@@ -1419,6 +1445,11 @@ public class GameScene extends PixelScene {
 	public static WndBag selectItem( WndBag.ItemSelector listener ) {
 		cancel();
 
+		listener = InputJournal.selectItem( listener );
+		if (InputJournal.replaying()){
+			return null;
+		}
+
 		if (scene != null) {
 			//TODO can the inventory pane work in these cases? bad to fallback to mobile window
 			if (scene.inventory != null && scene.inventory.visible && !showingWindow()){
@@ -1440,6 +1471,7 @@ public class GameScene extends PixelScene {
 			
 			Dungeon.hero.curAction = null;
 			Dungeon.hero.resting = false;
+			InputJournal.cancel();
 			return true;
 			
 		} else {
@@ -1450,6 +1482,10 @@ public class GameScene extends PixelScene {
 	}
 	
 	public static void ready() {
+		//the hero can also act without a scene, when the game is simulated headlessly
+		if (scene == null) {
+			return;
+		}
 		selectCell( defaultCellListener );
 		QuickSlotButton.cancel();
 		InventoryPane.cancelTargeting();
@@ -1465,7 +1501,7 @@ public class GameScene extends PixelScene {
 	}
 	
 	public static void resetKeyHold(){
-		cellSelector.resetKeyHold();
+		if (scene != null) cellSelector.resetKeyHold();
 	}
 
 	public static void examineCell( Integer cell ) {
@@ -1554,7 +1590,7 @@ public class GameScene extends PixelScene {
 	}
 
 	
-	private static final CellSelector.Listener defaultCellListener = new CellSelector.Listener() {
+	static final CellSelector.Listener defaultCellListener = new CellSelector.Listener() {
 		@Override
 		public void onSelect( Integer cell ) {
 			if (Dungeon.hero.handle( cell )) {
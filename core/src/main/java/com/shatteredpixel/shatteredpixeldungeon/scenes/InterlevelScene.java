@@ -49,6 +49,7 @@ import com.watabou.noosa.Image;
 import com.watabou.noosa.NoosaScript;
 import com.watabou.noosa.NoosaScriptNoLighting;
 import com.watabou.noosa.SkinnedBlock;
+import com.watabou.noosa.audio.Sample;
 import com.watabou.utils.DeviceCompat;
 
 import java.io.FileNotFoundException;
@@ -99,6 +100,9 @@ public class InterlevelScene extends PixelScene {
 	@Override
 	public void create() {
 		super.create();
+
+		//game sounds can load while the level does
+		Sample.INSTANCE.prioritize( Assets.Sounds.game );
 		
 		String loadingAsset;
 		int loadingDepth;
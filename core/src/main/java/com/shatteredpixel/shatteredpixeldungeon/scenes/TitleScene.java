@@ -48,6 +48,7 @@ import com.watabou.noosa.Camera;
 import com.watabou.noosa.Game;
 import com.watabou.noosa.Image;
 import com.watabou.noosa.audio.Music;
+import com.watabou.noosa.audio.Sample;
 import com.watabou.utils.ColorMath;
 import com.watabou.utils.DeviceCompat;
 
@@ -60,6 +61,8 @@ public class TitleScene extends PixelScene {
 		
 		super.create();
 
+		Sample.INSTANCE.prioritize( Assets.Sounds.title );
+
 		Music.INSTANCE.playTracks(
 				new String[]{Assets.Music.THEME_1, Assets.Music.THEME_2},
 				new float[]{1, 1},
@@ -167,7 +167,7 @@ public class ItemSprite extends MovieClip {
 		
 		if (heap != null && heap.seen && heap.peek() instanceof Gold) {
 			CellEmitter.center( heap.pos ).burst( Speck.factory( Speck.COIN ), 5 );
-			Sample.INSTANCE.play( Assets.Sounds.GOLD, 1, 1, Random.Float( 0.9f, 1.1f ) );
+			Sample.INSTANCE.play( Assets.Sounds.GOLD, 1, 1, Random.Visual.Float( 0.9f, 1.1f ) );
 		}
 	}
 	
@@ -331,17 +331,17 @@ public class ItemSprite extends MovieClip {
 					}
 
 					if (Dungeon.level.water[heap.pos]) {
-						Sample.INSTANCE.play( Assets.Sounds.WATER, 0.8f, Random.Float( 1f, 1.45f ) );
+						Sample.INSTANCE.play( Assets.Sounds.WATER, 0.8f, Random.Visual.Float( 1f, 1.45f ) );
 					} else if (Dungeon.level.map[heap.pos] == Terrain.EMPTY_SP) {
-						Sample.INSTANCE.play( Assets.Sounds.STURDY, 0.8f, Random.Float( 1.16f, 1.25f ) );
+						Sample.INSTANCE.play( Assets.Sounds.STURDY, 0.8f, Random.Visual.Float( 1.16f, 1.25f ) );
 					} else if (Dungeon.level.map[heap.pos] == Terrain.GRASS
 							|| Dungeon.level.map[heap.pos] == Terrain.EMBERS
 							|| Dungeon.level.map[heap.pos] == Terrain.FURROWED_GRASS){
-						Sample.INSTANCE.play( Assets.Sounds.GRASS, 0.8f, Random.Float( 1.16f, 1.25f ) );
+						Sample.INSTANCE.play( Assets.Sounds.GRASS, 0.8f, Random.Visual.Float( 1.16f, 1.25f ) );
 					} else if (Dungeon.level.map[heap.pos] == Terrain.HIGH_GRASS) {
-						Sample.INSTANCE.play( Assets.Sounds.STEP, 0.8f, Random.Float( 1.16f, 1.25f ) );
+						Sample.INSTANCE.play( Assets.Sounds.STEP, 0.8f, Random.Visual.Float( 1.16f, 1.25f ) );
 					} else {
-						Sample.INSTANCE.play( Assets.Sounds.STEP, 0.8f, Random.Float( 1.16f, 1.25f ));
+						Sample.INSTANCE.play( Assets.Sounds.STEP, 0.8f, Random.Visual.Float( 1.16f, 1.25f ));
 					}
 				}
 			}
@@ -44,6 +44,6 @@ public class SheepSprite extends MobSprite {
 		die.frames( frames, 0 );
 		
 		play( idle );
-		curFrame = Random.Int( curAnim.frames.length );
+		curFrame = Random.Visual.Int( curAnim.frames.length );
 	}
 }
@@ -28,6 +28,7 @@ import com.watabou.gltextures.TextureCache;
 import com.watabou.noosa.Image;
 import com.watabou.noosa.NoosaScript;
 import com.watabou.noosa.NoosaScriptNoLighting;
+import com.watabou.utils.Profiler;
 import com.watabou.utils.Rect;
 
 import java.util.ArrayList;
@@ -322,7 +323,9 @@ public class FogOfWar extends Image {
 	public void draw() {
 
 		if (!toUpdate.isEmpty()){
+			long start = Profiler.begin();
 			updateTexture(Dungeon.level.heroFOV, Dungeon.level.visited, Dungeon.level.mapped);
+			Profiler.end("FogOfWar.updateTexture", start);
 		}
 
 		super.draw();
@@ -317,7 +317,7 @@ public class QuickSlotButton extends Button {
 	private void useTargeting() {
 
 		if (lastTarget != null &&
-				Actor.chars().contains( lastTarget ) &&
+				Actor.containsChar( lastTarget ) &&
 				lastTarget.isAlive() &&
 				lastTarget.alignment != Char.Alignment.ALLY &&
 				Dungeon.level.heroFOV[lastTarget.pos]) {
@@ -391,7 +391,9 @@ public class QuickSlotButton extends Button {
 		if (target != null && target.alignment != Char.Alignment.ALLY) {
 			lastTarget = target;
 			
-			TargetHealthIndicator.instance.target( target );
+			if (TargetHealthIndicator.instance != null) {
+				TargetHealthIndicator.instance.target( target );
+			}
 			InventoryPane.lastTarget = target;
 		}
 	}
@@ -26,9 +26,12 @@ import com.shatteredpixel.shatteredpixeldungeon.messages.Messages;
 import com.shatteredpixel.shatteredpixeldungeon.scenes.PixelScene;
 import com.watabou.noosa.Game;
 import com.watabou.noosa.RenderedText;
+import com.watabou.noosa.TextMesh;
 import com.watabou.noosa.ui.Component;
+import com.watabou.utils.Profiler;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 
 public class RenderedTextBlock extends Component {
 
@@ -40,7 +43,12 @@ public class RenderedTextBlock extends Component {
 	
 	protected String text;
 	protected String[] tokens = null;
+	//words are used for measurement and layout, but are not drawn themselves.
+	//Instead their quads are combined into one mesh for regular text and one for highlighted text
 	protected ArrayList<RenderedText> words = new ArrayList<>();
+	private BitSet highlighted = new BitSet();
+	private TextMesh regularMesh = new TextMesh();
+	private TextMesh highlightMesh = new TextMesh();
 	protected boolean multiline = false;
 
 	private int size;
@@ -114,6 +122,16 @@ public class RenderedTextBlock extends Component {
 		
 		clear();
 		words = new ArrayList<>();
+		highlighted.clear();
+
+		regularMesh.resetColor();
+		if (color != -1) regularMesh.hardlight(color);
+		add(regularMesh);
+
+		highlightMesh.resetColor();
+		highlightMesh.hardlight(hightlightColor);
+		add(highlightMesh);
+
 		boolean highlighting = false;
 		for (String str : tokens){
 			
@@ -125,13 +143,10 @@ public class RenderedTextBlock extends Component {
 				words.add(SPACE);
 			} else {
 				RenderedText word = new RenderedText(str, size);
-				
-				if (highlighting) word.hardlight(hightlightColor);
-				else if (color != -1) word.hardlight(color);
 				word.scale.set(zoom);
 				
+				if (highlighting) highlighted.set(words.size());
 				words.add(word);
-				add(word);
 				
 				if (height < word.height()) height = word.height();
 			}
@@ -149,22 +164,19 @@ public class RenderedTextBlock extends Component {
 
 	public synchronized void hardlight(int color){
 		this.color = color;
-		for (RenderedText word : words) {
-			if (word != null) word.hardlight( color );
-		}
+		regularMesh.hardlight( color );
+		highlightMesh.hardlight( color );
 	}
 	
 	public synchronized void resetColor(){
 		this.color = -1;
-		for (RenderedText word : words) {
-			if (word != null) word.resetColor();
-		}
+		regularMesh.resetColor();
+		highlightMesh.resetColor();
 	}
 	
 	public synchronized void alpha(float value){
-		for (RenderedText word : words) {
-			if (word != null) word.alpha( value );
-		}
+		regularMesh.alpha( value );
+		highlightMesh.alpha( value );
 	}
 	
 	public synchronized void setHightlighting(boolean enabled){
@@ -180,20 +192,24 @@ public class RenderedTextBlock extends Component {
 	}
 
 	public synchronized void invert(){
-		if (words != null) {
-			for (RenderedText word : words) {
-				if (word != null) {
-					word.ra = 0.77f;
-					word.ga = 0.73f;
-					word.ba = 0.62f;
-					word.rm = -0.77f;
-					word.gm = -0.73f;
-					word.bm = -0.62f;
-				}
-			}
+		for (TextMesh mesh : new TextMesh[]{regularMesh, highlightMesh}) {
+			mesh.ra = 0.77f;
+			mesh.ga = 0.73f;
+			mesh.ba = 0.62f;
+			mesh.rm = -0.77f;
+			mesh.gm = -0.73f;
+			mesh.bm = -0.62f;
 		}
 	}
 
+	//moves the drawn text without re-laying it out
+	protected synchronized void shiftText(float dx, float dy){
+		regularMesh.x += dx;
+		regularMesh.y += dy;
+		highlightMesh.x += dx;
+		highlightMesh.y += dy;
+	}
+
 	public synchronized void align(int align){
 		alignment = align;
 		layout();
@@ -201,6 +217,7 @@ public class RenderedTextBlock extends Component {
 
 	@Override
 	protected synchronized void layout() {
+		long start = Profiler.begin();
 		super.layout();
 		float x = this.x;
 		float y = this.y;
@@ -278,5 +295,21 @@ public class RenderedTextBlock extends Component {
 				}
 			}
 		}
+
+		for (TextMesh mesh : new TextMesh[]{regularMesh, highlightMesh}) {
+			mesh.clear();
+			mesh.x = this.x;
+			mesh.y = this.y;
+			mesh.width = this.width;
+			//a little extra room for glyphs which extend below the line
+			mesh.height = this.height + 2f;
+		}
+		for (int i = 0; i < words.size(); i++){
+			RenderedText word = words.get(i);
+			if (word != SPACE && word != NEWLINE){
+				(highlighted.get(i) ? highlightMesh : regularMesh).add(word);
+			}
+		}
+		Profiler.end("RenderedTextBlock.layout", start);
 	}
 }
@@ -0,0 +1,615 @@
+/*
+ * Pixel Dungeon
+ * Copyright (C) 2012-2015 Oleg Dolya
+ *
+ * Shattered Pixel Dungeon
+ * Copyright (C) 2014-2024 Evan Debenham
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.shatteredpixel.shatteredpixeldungeon.utils;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.shatteredpixel.shatteredpixeldungeon.Dungeon;
+import com.shatteredpixel.shatteredpixeldungeon.GamesInProgress;
+import com.shatteredpixel.shatteredpixeldungeon.SPDSettings;
+import com.shatteredpixel.shatteredpixeldungeon.actors.Actor;
+import com.shatteredpixel.shatteredpixeldungeon.actors.hero.Hero;
+import com.shatteredpixel.shatteredpixeldungeon.actors.hero.HeroClass;
+import com.shatteredpixel.shatteredpixeldungeon.actors.hero.Talent;
+import com.shatteredpixel.shatteredpixeldungeon.items.Item;
+import com.shatteredpixel.shatteredpixeldungeon.items.bags.Bag;
+import com.shatteredpixel.shatteredpixeldungeon.scenes.GameScene;
+import com.shatteredpixel.shatteredpixeldungeon.scenes.InterlevelScene;
+import com.shatteredpixel.shatteredpixeldungeon.ui.ActionIndicator;
+import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
+import com.shatteredpixel.shatteredpixeldungeon.windows.WndBag;
+import com.watabou.noosa.Game;
+import com.watabou.utils.Bundle;
+import com.watabou.utils.DeviceCompat;
+import com.watabou.utils.FileUtils;
+import com.watabou.utils.Random;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+//Records every player command of a run along with the actor time it was given at, so that the run
+// can later be replayed exactly. This is used to reproduce slow sessions and to check that
+// changes to the game's internals don't alter its results.
+public class InputJournal {
+
+	public static final String FILE         = "input_journal.dat";
+	public static final String TIMINGS_FILE = "input_journal.csv";
+
+	//command types
+	private static final int HANDLE     = 0; //Hero.handle, cell
+	private static final int REST       = 1; //Hero.rest, 1 for a full rest
+	private static final int SEARCH     = 2; //Hero.search
+	private static final int EXECUTE    = 3; //Item.execute, item index and action
+	private static final int TARGET     = 4; //cell given to a cell selector
+	private static final int ITEM       = 5; //item index given to an item selector, -1 for none
+	private static final int CANCEL     = 6; //player interrupted the hero's current action
+	private static final int CHOICE     = 7; //option chosen in a window, its index and the window's class
+	private static final int TALENT     = 8; //talent upgraded by the player, its ordinal
+
+	private static final String[] TYPE_NAMES = {"handle", "rest", "search", "execute", "target", "item", "cancel", "choice", "talent"};
+
+	//journal is saved every so many commands, in addition to whenever the game is saved
+	private static final int SAVE_INTERVAL = 20;
+
+	private enum Mode {
+		OFF,
+		RECORDING,
+		REPLAYING
+	}
+
+	private static class Command {
+		int type;
+		int arg;
+		String action;
+		float time;
+		int check;
+	}
+
+	//mode and replay progress are written on the actor thread and read on the render thread
+	private static volatile Mode mode = Mode.OFF;
+
+	private static long seed;
+	private static String customSeedText;
+	private static boolean daily;
+	private static int challenges;
+	private static HeroClass heroClass;
+
+	private static ArrayList<Command> commands = new ArrayList<>();
+
+	//set when the player cancels the hero's action, it is journaled once the hero next acts
+	private static volatile boolean cancelPending = false;
+
+	//windows which offer a choice that affects the game implement this, so replays can make the same choice
+	public interface Choice {
+		void choose( int index );
+	}
+
+	//replay progress
+	private static volatile int next;
+	private static volatile WndBag.ItemSelector selector;
+	private static final ArrayList<Window> choices = new ArrayList<>();
+	private static long dispatched;
+	private static long[] timings;
+	private static boolean[] diverged;
+
+	public static boolean recording(){
+		return mode == Mode.RECORDING;
+	}
+
+	public static boolean replaying(){
+		return mode == Mode.REPLAYING;
+	}
+
+	//called as a new game is initialized, after its seed has been picked
+	public static void start(){
+		if (mode == Mode.REPLAYING){
+			Dungeon.seed = seed;
+			Dungeon.customSeedText = customSeedText;
+			Dungeon.daily = Dungeon.dailyReplay = daily;
+			Dungeon.challenges = challenges;
+			next = 0;
+			selector = null;
+			synchronized (choices) {
+				choices.clear();
+			}
+			dispatched = 0;
+
+		} else if (SPDSettings.recordInput()){
+			mode = Mode.RECORDING;
+			seed = Dungeon.seed;
+			customSeedText = Dungeon.customSeedText;
+			daily = Dungeon.daily;
+			challenges = Dungeon.challenges;
+			heroClass = GamesInProgress.selectedClass;
+			commands.clear();
+			cancelPending = false;
+
+		} else {
+			mode = Mode.OFF;
+		}
+	}
+
+	//called once a saved game is loaded, recording only continues if the journal is for this run
+	public static void resume(){
+		mode = Mode.OFF;
+		if (!SPDSettings.recordInput()){
+			return;
+		}
+
+		try {
+			restore( FileUtils.bundleFromFile( FILE ) );
+		} catch (IOException e) {
+			return;
+		}
+
+		if (seed == Dungeon.seed && customSeedText.equals(Dungeon.customSeedText) && challenges == Dungeon.challenges){
+			mode = Mode.RECORDING;
+			cancelPending = false;
+			commandGenerator = false;
+		}
+	}
+
+	//starts a new game which replays the saved journal, returns false if that isn't possible
+	public static boolean replay(){
+		int slot = GamesInProgress.firstEmpty();
+		if (slot == -1 || !load()){
+			return false;
+		}
+
+		GamesInProgress.curSlot = slot;
+		Dungeon.hero = null;
+		ActionIndicator.clearAction();
+		InterlevelScene.mode = InterlevelScene.Mode.DESCEND;
+		Game.switchScene( InterlevelScene.class );
+		return true;
+	}
+
+	//loads the saved journal, so that the next game to be initialized replays it
+	public static boolean load(){
+		try {
+			restore( FileUtils.bundleFromFile( FILE ) );
+		} catch (IOException e) {
+			Game.reportException(e);
+			return false;
+		}
+
+		mode = Mode.REPLAYING;
+		timings = new long[commands.size()];
+		diverged = new boolean[commands.size()];
+
+		GamesInProgress.selectedClass = heroClass;
+		return true;
+	}
+
+	//called after a new game resets its random generators
+	public static void reseed(){
+		commandGenerator = false;
+		if (mode != Mode.OFF){
+			reseed( 0 );
+		}
+	}
+
+	//whether a generator for the current command is on the random generator stack
+	private static boolean commandGenerator = false;
+
+	//every command gets its own seeded generator, which replaces the previous command's.
+	// Commands are only given while the hero waits for input, so no other generators are pushed on top of it.
+	// Visual effects have a separate generator, so the renderer can't change the outcome of a command either.
+	private static void reseed( int step ){
+		if (commandGenerator){
+			Random.popGenerator();
+		}
+		Random.pushGenerator( seed + (step+1) * DungeonSeed.TOTAL_SEEDS );
+		commandGenerator = true;
+	}
+
+	//a cheap digest of game state, used to detect when a replay has drifted from the recording
+	private static int check(){
+		Hero hero = Dungeon.hero;
+		int check = Dungeon.depth;
+		check = 31*check + Dungeon.branch;
+		check = 31*check + hero.pos;
+		check = 31*check + hero.HP;
+		check = 31*check + hero.lvl;
+		check = 31*check + Dungeon.gold;
+		check = 31*check + (Dungeon.level != null ? Dungeon.level.mobs.size() : 0);
+		return check;
+	}
+
+	private static void record( int type, int arg, String action ){
+		if (mode != Mode.RECORDING || Dungeon.hero == null){
+			return;
+		}
+
+		Command command = new Command();
+		command.type = type;
+		command.arg = arg;
+		command.action = action;
+		command.time = Actor.now();
+		command.check = check();
+
+		synchronized (commands) {
+			commands.add(command);
+			reseed( commands.size() );
+			if (commands.size() % SAVE_INTERVAL == 0){
+				save();
+			}
+		}
+	}
+
+	// recording hooks
+
+	public static void handle( int cell ){
+		record( HANDLE, cell, null );
+	}
+
+	public static void rest( boolean fullRest ){
+		record( REST, fullRest ? 1 : 0, null );
+	}
+
+	public static void search(){
+		record( SEARCH, 0, null );
+	}
+
+	public static void execute( Item item, String action ){
+		int index = indexOf( item );
+		//items which aren't in the hero's inventory are only ever used indirectly, via another item
+		if (index != -1){
+			record( EXECUTE, index, action );
+		}
+	}
+
+	public static void target( int cell ){
+		record( TARGET, cell, null );
+	}
+
+	public static void cancel(){
+		if (mode == Mode.RECORDING){
+			cancelPending = true;
+		}
+	}
+
+	//called when the player picks an option in a window, before the choice takes effect
+	public static void chose( Choice window, int index ){
+		record( CHOICE, index, window.getClass().getName() );
+	}
+
+	public static void talent( Talent talent ){
+		record( TALENT, talent.ordinal(), null );
+	}
+
+	//called as the game scene shows a window. Replays keep the window open if a choice is to be made in it
+	public static void offer( Window window ){
+		if (mode == Mode.REPLAYING && window instanceof Choice){
+			synchronized (choices) {
+				choices.add( window );
+			}
+		}
+	}
+
+	//the frontmost open window of the given class which offers a choice. Any windows in front of it
+	// were closed without a choice being made while recording, so they are closed here too
+	private static Choice choiceWindow( String windowClass ){
+		synchronized (choices) {
+			for (int i = choices.size()-1; i >= 0; i--){
+				Window window = choices.get(i);
+				if (window.parent == null){
+					choices.remove(i);
+				} else if (window.getClass().getName().equals(windowClass)){
+					while (choices.size() > i+1){
+						choices.remove(choices.size()-1).hide();
+					}
+					return (Choice) window;
+				}
+			}
+		}
+		return null;
+	}
+
+	//whether the next command of a replay is a choice in a window, windows are otherwise closed during replays
+	public static boolean choiceNext(){
+		int index = next;
+		return mode == Mode.REPLAYING && index < commands.size() && commands.get(index).type == CHOICE;
+	}
+
+	//recordings wrap item selectors so the chosen item is journaled, replays hold on to the selector
+	// and give it the journaled item directly instead of showing an inventory window
+	public static WndBag.ItemSelector selectItem( final WndBag.ItemSelector listener ){
+		if (mode == Mode.REPLAYING){
+			selector = listener;
+			return listener;
+		} else if (mode != Mode.RECORDING){
+			return listener;
+		}
+
+		return new WndBag.ItemSelector() {
+			@Override
+			public String textPrompt() {
+				return listener.textPrompt();
+			}
+
+			@Override
+			public Class<? extends Bag> preferredBag() {
+				return listener.preferredBag();
+			}
+
+			@Override
+			public boolean itemSelectable(Item item) {
+				return listener.itemSelectable(item);
+			}
+
+			@Override
+			public void onSelect(Item item) {
+				record( ITEM, item == null ? -1 : indexOf(item), null );
+				listener.onSelect(item);
+			}
+		};
+	}
+
+	//called by the hero at the start of each of its turns, on the actor thread
+	public static void heroAct(){
+		if (mode == Mode.RECORDING && cancelPending){
+			cancelPending = false;
+			record( CANCEL, 0, null );
+
+		} else if (mode == Mode.REPLAYING && next < commands.size()){
+			Command command = commands.get(next);
+			if (command.type == CANCEL && command.time == Actor.now()){
+				dispatch( command );
+				Dungeon.hero.curAction = null;
+				Dungeon.hero.resting = false;
+			}
+		}
+	}
+
+	private static int indexOf( Item item ){
+		int index = 0;
+		for (Item i : Dungeon.hero.belongings){
+			if (i == item) return index;
+			index++;
+		}
+		return -1;
+	}
+
+	private static Item itemAt( int index ){
+		if (index < 0) return null;
+		for (Item i : Dungeon.hero.belongings){
+			if (index-- == 0) return i;
+		}
+		return null;
+	}
+
+	// replaying
+
+	private static void dispatch( Command command ){
+		long now = System.nanoTime();
+		if (next > 0){
+			timings[next-1] = now - dispatched;
+		}
+		dispatched = now;
+
+		if (command.time != Actor.now() || command.check != check()){
+			if (!diverged[next]) {
+				DeviceCompat.log("InputJournal", "replay diverged at command " + next);
+			}
+			diverged[next] = true;
+		}
+
+		next++;
+		reseed( next );
+	}
+
+	//called every frame while the hero is waiting for input during a replay
+	public static void replayNext(){
+		if (mode != Mode.REPLAYING){
+			return;
+		}
+
+		if (next >= commands.size()){
+			finishReplay();
+			return;
+		}
+
+		Command command = commands.get(next);
+		dispatch( command );
+
+		Hero hero = Dungeon.hero;
+		switch (command.type){
+			case HANDLE:
+				GameScene.cancelCellSelector();
+				if (hero.handle( command.arg )){
+					hero.next();
+				}
+				break;
+			case REST:
+				GameScene.cancelCellSelector();
+				hero.rest( command.arg == 1 );
+				break;
+			case SEARCH:
+				GameScene.cancelCellSelector();
+				hero.search( true );
+				break;
+			case EXECUTE:
+				Item item = itemAt( command.arg );
+				if (item != null){
+					item.execute( hero, command.action );
+				} else {
+					diverged[next-1] = true;
+				}
+				break;
+			case TARGET:
+				GameScene.handleCell( command.arg );
+				break;
+			case ITEM:
+				if (selector != null){
+					WndBag.ItemSelector listener = selector;
+					selector = null;
+					listener.onSelect( itemAt( command.arg ) );
+				} else {
+					diverged[next-1] = true;
+				}
+				break;
+			case CHOICE:
+				//choices in windows which don't affect the game, e.g. what to examine, have nothing to replay
+				Choice window = choiceWindow( command.action );
+				if (window != null){
+					window.choose( command.arg );
+				}
+				break;
+			case TALENT:
+				hero.upgradeTalent( Talent.values()[command.arg] );
+				break;
+			case CANCEL: default:
+				//the hero was already waiting for input, so there was nothing left to cancel
+				diverged[next-1] = true;
+				break;
+		}
+	}
+
+	//called when the hero dies, this is the end of a run so the journal is completed
+	public static void gameOver(){
+		if (mode == Mode.RECORDING){
+			save();
+		} else if (mode == Mode.REPLAYING){
+			finishReplay();
+		}
+	}
+
+	//writes the time each command took to process, up to the hero being ready for the next one
+	private static void finishReplay(){
+		if (next > 0 && next <= commands.size() && timings[next-1] == 0){
+			timings[next-1] = System.nanoTime() - dispatched;
+		}
+		mode = Mode.OFF;
+		selector = null;
+		synchronized (choices) {
+			choices.clear();
+		}
+
+		int divergences = 0;
+		StringBuilder csv = new StringBuilder();
+		csv.append("command,type,arg,action,actor time,ms,diverged\n");
+		for (int i = 0; i < commands.size(); i++){
+			Command command = commands.get(i);
+			csv.append(i);
+			csv.append(',').append(TYPE_NAMES[command.type]);
+			csv.append(',').append(command.arg);
+			csv.append(',').append(command.action == null ? "" : command.action);
+			csv.append(',').append(command.time);
+			csv.append(',').append(timings[i] / 1_000_000f);
+			csv.append(',').append(diverged[i]);
+			csv.append('\n');
+			if (diverged[i]) divergences++;
+		}
+
+		try {
+			FileUtils.getFileHandle( TIMINGS_FILE ).writeString( csv.toString(), false );
+		} catch (GdxRuntimeException e){
+			Game.reportException(e);
+		}
+
+		DeviceCompat.log("InputJournal", "replayed " + next + "/" + commands.size() + " commands, " + divergences + " diverged");
+	}
+
+	// saving
+
+	private static final String SEED        = "seed";
+	private static final String CUSTOM_SEED = "custom_seed";
+	private static final String DAILY       = "daily";
+	private static final String CHALLENGES  = "challenges";
+	private static final String HERO_CLASS  = "hero_class";
+	private static final String VERSION     = "version";
+	private static final String TYPES       = "types";
+	private static final String ARGS        = "args";
+	private static final String ACTIONS     = "actions";
+	private static final String TIMES       = "times";
+	private static final String CHECKS      = "checks";
+
+	public static void save(){
+		if (mode != Mode.RECORDING){
+			return;
+		}
+
+		Bundle bundle = new Bundle();
+		bundle.put( SEED, seed );
+		bundle.put( CUSTOM_SEED, customSeedText );
+		bundle.put( DAILY, daily );
+		bundle.put( CHALLENGES, challenges );
+		bundle.put( HERO_CLASS, heroClass );
+		bundle.put( VERSION, Game.versionCode );
+
+		synchronized (commands) {
+			int size = commands.size();
+			int[] types = new int[size];
+			int[] args = new int[size];
+			String[] actions = new String[size];
+			float[] times = new float[size];
+			int[] checks = new int[size];
+			for (int i = 0; i < size; i++){
+				Command command = commands.get(i);
+				types[i] = command.type;
+				args[i] = command.arg;
+				actions[i] = command.action == null ? "" : command.action;
+				times[i] = command.time;
+				checks[i] = command.check;
+			}
+			bundle.put( TYPES, types );
+			bundle.put( ARGS, args );
+			bundle.put( ACTIONS, actions );
+			bundle.put( TIMES, times );
+			bundle.put( CHECKS, checks );
+		}
+
+		FileUtils.bundleToFileLater( FILE, bundle );
+	}
+
+	private static void restore( Bundle bundle ){
+		seed = bundle.getLong( SEED );
+		customSeedText = bundle.getString( CUSTOM_SEED );
+		daily = bundle.getBoolean( DAILY );
+		challenges = bundle.getInt( CHALLENGES );
+		heroClass = bundle.getEnum( HERO_CLASS, HeroClass.class );
+
+		if (bundle.getInt( VERSION ) != Game.versionCode){
+			DeviceCompat.log("InputJournal", "journal was recorded on a different version, replays may diverge");
+		}
+
+		int[] types = bundle.getIntArray( TYPES );
+		int[] args = bundle.getIntArray( ARGS );
+		String[] actions = bundle.getStringArray( ACTIONS );
+		float[] times = bundle.getFloatArray( TIMES );
+		int[] checks = bundle.getIntArray( CHECKS );
+
+		synchronized (commands) {
+			commands.clear();
+			for (int i = 0; i < types.length; i++){
+				Command command = new Command();
+				command.type = types[i];
+				command.arg = args[i];
+				command.action = actions[i].isEmpty() ? null : actions[i];
+				command.time = times[i];
+				command.check = checks[i];
+				commands.add(command);
+			}
+		}
+	}
+
+}
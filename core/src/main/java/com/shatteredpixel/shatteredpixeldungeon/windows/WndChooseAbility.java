@@ -36,16 +36,27 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.Icons;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 
-public class WndChooseAbility extends Window {
+public class WndChooseAbility extends Window implements InputJournal.Choice {
 
 	private static final int WIDTH		= 130;
 	private static final float GAP		= 2;
 
+	private KingsCrown crown;
+	private Armor armor;
+	private Hero hero;
+	private ArmorAbility[] abilities;
+
 	public WndChooseAbility(final KingsCrown crown, final Armor armor, final Hero hero){
 
 		super();
 
+		this.crown = crown;
+		this.armor = armor;
+		this.hero = hero;
+		abilities = hero.heroClass.armorAbilities();
+
 		//crown can be null if hero is choosing from armor
 		IconTitle titlebar = new IconTitle();
 		titlebar.icon( new ItemSprite( crown == null ? armor.image() : crown.image(), null ) );
@@ -63,30 +74,15 @@ public class WndChooseAbility extends Window {
 		add( body );
 
 		float pos = body.bottom() + 3*GAP;
-		for (ArmorAbility ability : hero.heroClass.armorAbilities()) {
+		for (int i = 0; i < abilities.length; i++) {
+			final int index = i;
+			final ArmorAbility ability = abilities[i];
 
 			RedButton abilityButton = new RedButton(ability.shortDesc(), 6){
 				@Override
 				protected void onClick() {
-					GameScene.show(new WndOptions( new HeroIcon( ability ),
-							Messages.titleCase(ability.name()),
-							Messages.get(WndChooseAbility.this, "are_you_sure"),
-							Messages.get(WndChooseAbility.this, "yes"),
-							Messages.get(WndChooseAbility.this, "no")){
-
-						@Override
-						protected void onSelect(int index) {
-							hide();
-							if (index == 0 && WndChooseAbility.this.parent != null){
-								WndChooseAbility.this.hide();
-								if (crown != null) {
-									crown.upgradeArmor(hero, armor, ability);
-								} else {
-									new KingsCrown().upgradeArmor(hero, null, ability);
-								}
-							}
-						}
-					});
+					InputJournal.chose( WndChooseAbility.this, index );
+					choose( index );
 				}
 			};
 			abilityButton.leftJustify = true;
@@ -121,5 +117,28 @@ public class WndChooseAbility extends Window {
 
 	}
 
+	@Override
+	public void choose( int index ) {
+		final ArmorAbility ability = abilities[index];
+		GameScene.show(new WndOptions( new HeroIcon( ability ),
+				Messages.titleCase(ability.name()),
+				Messages.get(WndChooseAbility.this, "are_you_sure"),
+				Messages.get(WndChooseAbility.this, "yes"),
+				Messages.get(WndChooseAbility.this, "no")){
+
+			@Override
+			protected void onSelect(int index) {
+				hide();
+				if (index == 0 && WndChooseAbility.this.parent != null){
+					WndChooseAbility.this.hide();
+					if (crown != null) {
+						crown.upgradeArmor(hero, armor, ability);
+					} else {
+						new KingsCrown().upgradeArmor(hero, null, ability);
+					}
+				}
+			}
+		});
+	}
 
 }
@@ -35,16 +35,23 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.Icons;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 
-public class WndChooseSubclass extends Window {
+public class WndChooseSubclass extends Window implements InputJournal.Choice {
 	
 	private static final int WIDTH		= 130;
 	private static final float GAP		= 2;
+
+	private TengusMask tome;
+	private HeroSubClass[] subClasses;
 	
 	public WndChooseSubclass(final TengusMask tome, final Hero hero ) {
 		
 		super();
 
+		this.tome = tome;
+		subClasses = hero.heroClass.subClasses();
+
 		IconTitle titlebar = new IconTitle();
 		titlebar.icon( new ItemSprite( tome.image(), null ) );
 		titlebar.label( tome.name() );
@@ -58,24 +65,14 @@ public class WndChooseSubclass extends Window {
 
 		float pos = message.bottom() + 3*GAP;
 
-		for (HeroSubClass subCls : hero.heroClass.subClasses()){
+		for (int i = 0; i < subClasses.length; i++){
+			final int index = i;
+			final HeroSubClass subCls = subClasses[i];
 			RedButton btnCls = new RedButton( subCls.shortDesc(), 6 ) {
 				@Override
 				protected void onClick() {
-					GameScene.show(new WndOptions(new HeroIcon(subCls),
-							Messages.titleCase(subCls.title()),
-							Messages.get(WndChooseSubclass.this, "are_you_sure"),
-							Messages.get(WndChooseSubclass.this, "yes"),
-							Messages.get(WndChooseSubclass.this, "no")){
-						@Override
-						protected void onSelect(int index) {
-							hide();
-							if (index == 0 && WndChooseSubclass.this.parent != null){
-								WndChooseSubclass.this.hide();
-								tome.choose( subCls );
-							}
-						}
-					});
+					InputJournal.chose( WndChooseSubclass.this, index );
+					choose( index );
 				}
 			};
 			btnCls.leftJustify = true;
@@ -107,4 +104,23 @@ public class WndChooseSubclass extends Window {
 		
 		resize( WIDTH, (int)btnCancel.bottom() );
 	}
+
+	@Override
+	public void choose( int index ) {
+		final HeroSubClass subCls = subClasses[index];
+		GameScene.show(new WndOptions(new HeroIcon(subCls),
+				Messages.titleCase(subCls.title()),
+				Messages.get(WndChooseSubclass.this, "are_you_sure"),
+				Messages.get(WndChooseSubclass.this, "yes"),
+				Messages.get(WndChooseSubclass.this, "no")){
+			@Override
+			protected void onSelect(int index) {
+				hide();
+				if (index == 0 && WndChooseSubclass.this.parent != null){
+					WndChooseSubclass.this.hide();
+					tome.choose( subCls );
+				}
+			}
+		});
+	}
 }
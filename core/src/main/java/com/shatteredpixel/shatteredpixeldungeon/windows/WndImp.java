@@ -32,16 +32,23 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
 import com.shatteredpixel.shatteredpixeldungeon.utils.GLog;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 
-public class WndImp extends Window {
+public class WndImp extends Window implements InputJournal.Choice {
 	
 	private static final int WIDTH      = 120;
 	private static final int BTN_HEIGHT = 20;
 	private static final int GAP        = 2;
 
+	private Imp imp;
+	private DwarfToken tokens;
+
 	public WndImp( final Imp imp, final DwarfToken tokens ) {
 		
 		super();
+
+		this.imp = imp;
+		this.tokens = tokens;
 		
 		IconTitle titlebar = new IconTitle();
 		titlebar.icon( new ItemSprite( tokens.image(), null ) );
@@ -57,7 +64,8 @@ public class WndImp extends Window {
 		RedButton btnReward = new RedButton( Messages.get(this, "reward") ) {
 			@Override
 			protected void onClick() {
-				takeReward( imp, tokens, Imp.Quest.reward );
+				InputJournal.chose( WndImp.this, 0 );
+				choose( 0 );
 			}
 		};
 		btnReward.setRect( 0, message.top() + message.height() + GAP, WIDTH, BTN_HEIGHT );
@@ -65,6 +73,11 @@ public class WndImp extends Window {
 		
 		resize( WIDTH, (int)btnReward.bottom() );
 	}
+
+	@Override
+	public void choose( int index ) {
+		takeReward( imp, tokens, Imp.Quest.reward );
+	}
 	
 	private void takeReward( Imp imp, DwarfToken tokens, Item reward ) {
 		
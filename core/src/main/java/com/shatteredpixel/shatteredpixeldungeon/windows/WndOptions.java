@@ -27,9 +27,10 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.Icons;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 import com.watabou.noosa.Image;
 
-public class WndOptions extends Window {
+public class WndOptions extends Window implements InputJournal.Choice {
 
 	protected static final int WIDTH_P = 120;
 	protected static final int WIDTH_L = 144;
@@ -88,8 +89,8 @@ public class WndOptions extends Window {
 			RedButton btn = new RedButton( options[i] ) {
 				@Override
 				protected void onClick() {
-					hide();
-					onSelect( index );
+					InputJournal.chose( WndOptions.this, index );
+					choose( index );
 				}
 			};
 			if (hasIcon(i)) btn.icon(getIcon(i));
@@ -120,6 +121,12 @@ public class WndOptions extends Window {
 		return true;
 	}
 	
+	@Override
+	public void choose( int index ) {
+		hide();
+		onSelect( index );
+	}
+
 	protected void onSelect( int index ) {}
 
 	protected boolean hasInfo( int index ) {
@@ -24,6 +24,7 @@ package com.shatteredpixel.shatteredpixeldungeon.windows;
 import com.shatteredpixel.shatteredpixeldungeon.scenes.PixelScene;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 import com.watabou.noosa.Image;
 
 import java.util.ArrayList;
@@ -57,8 +58,8 @@ public class WndOptionsCondensed extends WndOptions {
 			RedButton btn = new RedButton( options[i] ) {
 				@Override
 				protected void onClick() {
-					hide();
-					onSelect( index );
+					InputJournal.chose( WndOptionsCondensed.this, index );
+					choose( index );
 				}
 			};
 			if (hasIcon(i)) btn.icon(getIcon(i));
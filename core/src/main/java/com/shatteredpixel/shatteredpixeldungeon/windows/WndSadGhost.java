@@ -37,8 +37,9 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
 import com.shatteredpixel.shatteredpixeldungeon.utils.GLog;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 
-public class WndSadGhost extends Window {
+public class WndSadGhost extends Window implements InputJournal.Choice {
 
 	private static final int WIDTH		= 120;
 	private static final int BTN_SIZE	= 32;
@@ -84,7 +85,8 @@ public class WndSadGhost extends Window {
 		ItemButton btnWeapon = new ItemButton(){
 			@Override
 			protected void onClick() {
-				GameScene.show(new RewardWindow(item()));
+				InputJournal.chose( WndSadGhost.this, 0 );
+				choose( 0 );
 			}
 		};
 		btnWeapon.item( Ghost.Quest.weapon );
@@ -94,7 +96,8 @@ public class WndSadGhost extends Window {
 		ItemButton btnArmor = new ItemButton(){
 			@Override
 			protected void onClick() {
-				GameScene.show(new RewardWindow(item()));
+				InputJournal.chose( WndSadGhost.this, 1 );
+				choose( 1 );
 			}
 		};
 		btnArmor.item( Ghost.Quest.armor );
@@ -103,6 +106,11 @@ public class WndSadGhost extends Window {
 
 		resize(WIDTH, (int) btnArmor.bottom() + BTN_GAP);
 	}
+
+	@Override
+	public void choose( int index ) {
+		GameScene.show(new RewardWindow(index == 0 ? Ghost.Quest.weapon : Ghost.Quest.armor));
+	}
 	
 	private void selectReward( Item reward ) {
 		
@@ -129,17 +137,20 @@ public class WndSadGhost extends Window {
 		Ghost.Quest.complete();
 	}
 
-	private class RewardWindow extends WndInfoItem {
+	private class RewardWindow extends WndInfoItem implements InputJournal.Choice {
+
+		private Item item;
 
 		public RewardWindow( Item item ) {
 			super(item);
 
+			this.item = item;
+
 			RedButton btnConfirm = new RedButton(Messages.get(WndSadGhost.class, "confirm")){
 				@Override
 				protected void onClick() {
-					RewardWindow.this.hide();
-
-					WndSadGhost.this.selectReward( item );
+					InputJournal.chose( RewardWindow.this, 0 );
+					choose( 0 );
 				}
 			};
 			btnConfirm.setRect(0, height+2, width/2-1, 16);
@@ -156,5 +167,12 @@ public class WndSadGhost extends Window {
 
 			resize(width, (int)btnCancel.bottom());
 		}
+
+		@Override
+		public void choose( int index ) {
+			RewardWindow.this.hide();
+
+			WndSadGhost.this.selectReward( item );
+		}
 	}
 }
\ No newline at end of file
@@ -40,6 +40,7 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Toolbar;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 import com.watabou.input.ControllerHandler;
 import com.watabou.noosa.ColorBlock;
 import com.watabou.noosa.Game;
@@ -47,6 +48,8 @@ import com.watabou.noosa.Image;
 import com.watabou.noosa.audio.Sample;
 import com.watabou.noosa.ui.Component;
 import com.watabou.utils.DeviceCompat;
+import com.watabou.utils.FileUtils;
+import com.watabou.utils.Profiler;
 import com.watabou.utils.Random;
 
 import java.util.ArrayList;
@@ -217,6 +220,8 @@ public class WndSettings extends WndTabbed {
 
 	private static class DisplayTab extends Component {
 
+		private static final String PROFILE_FILE = "profile.csv";
+
 		RenderedTextBlock title;
 		ColorBlock sep1;
 		CheckBox chkFullscreen;
@@ -229,6 +234,11 @@ public class WndSettings extends WndTabbed {
 		OptionSlider optFollowIntensity;
 		OptionSlider optScreenShake;
 
+		ColorBlock sep3;
+
+		CheckBox chkProfiler;
+		RedButton btnSaveProfile;
+
 		@Override
 		protected void createChildren() {
 			title = PixelScene.renderTextBlock(Messages.get(this, "title"), 9);
@@ -346,6 +356,34 @@ public class WndSettings extends WndTabbed {
 			optScreenShake.setSelectedValue(SPDSettings.screenShake());
 			add(optScreenShake);
 
+			//the profiler is a debugging tool, so it isn't exposed in release builds
+			if (DeviceCompat.isDebug()){
+				sep3 = new ColorBlock(1, 1, 0xFF000000);
+				add(sep3);
+
+				chkProfiler = new CheckBox(Messages.get(this, "profiler")){
+					@Override
+					protected void onClick() {
+						super.onClick();
+						Game.showProfiler(checked());
+						btnSaveProfile.enable(checked());
+					}
+				};
+				chkProfiler.checked(Game.profilerShown());
+				add(chkProfiler);
+
+				btnSaveProfile = new RedButton(Messages.get(this, "save_profile")){
+					@Override
+					protected void onClick() {
+						super.onClick();
+						Profiler.dumpCSV(PROFILE_FILE);
+						ShatteredPixelDungeon.scene().addToFront(new WndMessage(Messages.get(DisplayTab.class, "profile_saved", PROFILE_FILE)));
+					}
+				};
+				btnSaveProfile.enable(Game.profilerShown());
+				add(btnSaveProfile);
+			}
+
 		}
 
 		@Override
@@ -402,6 +440,21 @@ public class WndSettings extends WndTabbed {
 			}
 
 			height = optScreenShake.bottom();
+
+			if (chkProfiler != null){
+				sep3.size(width, 1);
+				sep3.y = height + GAP;
+
+				if (width > 200){
+					chkProfiler.setRect(0, sep3.y + 1 + GAP, width/2-1, BTN_HEIGHT);
+					btnSaveProfile.setRect(width/2+1, chkProfiler.top(), width/2-1, BTN_HEIGHT);
+				} else {
+					chkProfiler.setRect(0, sep3.y + 1 + GAP, width, BTN_HEIGHT);
+					btnSaveProfile.setRect(0, chkProfiler.bottom() + GAP, width, BTN_HEIGHT);
+				}
+
+				height = btnSaveProfile.bottom();
+			}
 		}
 
 	}
@@ -715,6 +768,11 @@ public class WndSettings extends WndTabbed {
 		OptionSlider optControlSens;
 		OptionSlider optHoldMoveSens;
 
+		ColorBlock sep3;
+
+		CheckBox chkRecordInput;
+		RedButton btnReplayInput;
+
 		@Override
 		protected void createChildren() {
 			title = PixelScene.renderTextBlock(Messages.get(this, "title"), 9);
@@ -782,6 +840,36 @@ public class WndSettings extends WndTabbed {
 			};
 			optHoldMoveSens.setSelectedValue(SPDSettings.movementHoldSensitivity());
 			add(optHoldMoveSens);
+
+			//input journals are a debugging tool, so they aren't exposed in release builds
+			if (DeviceCompat.isDebug()){
+				sep3 = new ColorBlock(1, 1, 0xFF000000);
+				add(sep3);
+
+				chkRecordInput = new CheckBox(Messages.get(this, "record_input")){
+					@Override
+					protected void onClick() {
+						super.onClick();
+						SPDSettings.recordInput(checked());
+					}
+				};
+				chkRecordInput.checked(SPDSettings.recordInput());
+				add(chkRecordInput);
+
+				btnReplayInput = new RedButton(Messages.get(this, "replay_input")){
+					@Override
+					protected void onClick() {
+						super.onClick();
+						if (!InputJournal.replay()){
+							ShatteredPixelDungeon.scene().addToFront(new WndMessage(Messages.get(InputTab.class, "replay_failed")));
+						}
+					}
+				};
+				//replaying starts a new run, so it isn't available while one is in progress
+				btnReplayInput.enable(!(ShatteredPixelDungeon.scene() instanceof GameScene)
+						&& FileUtils.fileExists(InputJournal.FILE));
+				add(btnReplayInput);
+			}
 		}
 
 		@Override
@@ -821,6 +909,21 @@ public class WndSettings extends WndTabbed {
 
 			height = optHoldMoveSens.bottom();
 
+			if (chkRecordInput != null){
+				sep3.size(width, 1);
+				sep3.y = height + GAP;
+
+				if (width > 200){
+					chkRecordInput.setRect(0, sep3.y + 1 + GAP, width/2-1, BTN_HEIGHT);
+					btnReplayInput.setRect(width/2+1, chkRecordInput.top(), width/2-1, BTN_HEIGHT);
+				} else {
+					chkRecordInput.setRect(0, sep3.y + 1 + GAP, width, BTN_HEIGHT);
+					btnReplayInput.setRect(0, chkRecordInput.bottom() + GAP, width, BTN_HEIGHT);
+				}
+
+				height = btnReplayInput.bottom();
+			}
+
 		}
 	}
 
@@ -37,16 +37,27 @@ import com.shatteredpixel.shatteredpixeldungeon.scenes.GameScene;
 import com.shatteredpixel.shatteredpixeldungeon.sprites.ItemSprite;
 import com.shatteredpixel.shatteredpixeldungeon.sprites.ItemSpriteSheet;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 
-public class WndTradeItem extends WndInfoItem {
+public class WndTradeItem extends WndInfoItem implements InputJournal.Choice {
 
 	private static final float GAP		= 2;
 	private static final int BTN_HEIGHT	= 18;
 
+	//indexes of the choices made in this window, as they are journaled
+	private static final int SELL       = 0;
+	private static final int SELL_ONE   = 1;
+	private static final int BUY        = 0;
+	private static final int STEAL      = 1;
+
 	private WndBag owner;
 
 	private boolean selling = false;
 
+	private Item item;
+	private Shopkeeper shop;
+	private Heap heap;
+
 	//selling
 	public WndTradeItem( final Item item, WndBag owner ) {
 
@@ -55,6 +66,7 @@ public class WndTradeItem extends WndInfoItem {
 		selling = true;
 
 		this.owner = owner;
+		this.item = item;
 
 		float pos = height;
 
@@ -66,15 +78,15 @@ public class WndTradeItem extends WndInfoItem {
 				break;
 			}
 		}
-		final Shopkeeper finalShop = shop;
+		this.shop = shop;
 
 		if (item.quantity() == 1) {
 
 			RedButton btnSell = new RedButton( Messages.get(this, "sell", item.value()) ) {
 				@Override
 				protected void onClick() {
-					sell( item, finalShop);
-					hide();
+					InputJournal.chose( WndTradeItem.this, SELL );
+					choose( SELL );
 				}
 			};
 			btnSell.setRect( 0, pos + GAP, width, BTN_HEIGHT );
@@ -89,8 +101,8 @@ public class WndTradeItem extends WndInfoItem {
 			RedButton btnSell1 = new RedButton( Messages.get(this, "sell_1", priceAll / item.quantity()) ) {
 				@Override
 				protected void onClick() {
-					sellOne( item, finalShop );
-					hide();
+					InputJournal.chose( WndTradeItem.this, SELL_ONE );
+					choose( SELL_ONE );
 				}
 			};
 			btnSell1.setRect( 0, pos + GAP, width, BTN_HEIGHT );
@@ -99,8 +111,8 @@ public class WndTradeItem extends WndInfoItem {
 			RedButton btnSellAll = new RedButton( Messages.get(this, "sell_all", priceAll ) ) {
 				@Override
 				protected void onClick() {
-					sell( item, finalShop );
-					hide();
+					InputJournal.chose( WndTradeItem.this, SELL );
+					choose( SELL );
 				}
 			};
 			btnSellAll.setRect( 0, btnSell1.bottom() + 1, width, BTN_HEIGHT );
@@ -121,7 +133,8 @@ public class WndTradeItem extends WndInfoItem {
 
 		selling = false;
 
-		Item item = heap.peek();
+		this.heap = heap;
+		item = heap.peek();
 
 		float pos = height;
 
@@ -130,8 +143,8 @@ public class WndTradeItem extends WndInfoItem {
 		RedButton btnBuy = new RedButton( Messages.get(this, "buy", price) ) {
 			@Override
 			protected void onClick() {
-				hide();
-				buy( heap );
+				InputJournal.chose( WndTradeItem.this, BUY );
+				choose( BUY );
 			}
 		};
 		btnBuy.setRect( 0, pos + GAP, width, BTN_HEIGHT );
@@ -148,47 +161,8 @@ public class WndTradeItem extends WndInfoItem {
 			RedButton btnSteal = new RedButton(Messages.get(this, "steal", Math.min(100, (int) (chance * 100)), chargesToUse), 6) {
 				@Override
 				protected void onClick() {
-					if (chance >= 1){
-						thievery.steal(item);
-						Hero hero = Dungeon.hero;
-						Item item = heap.pickUp();
-						hide();
-
-						if (!item.doPickUp(hero)) {
-							Dungeon.level.drop(item, heap.pos).sprite.drop();
-						}
-					} else {
-						GameScene.show(new WndOptions(new ItemSprite(ItemSpriteSheet.ARTIFACT_ARMBAND),
-								Messages.titleCase(Messages.get(MasterThievesArmband.class, "name")),
-								Messages.get(WndTradeItem.class, "steal_warn"),
-								Messages.get(WndTradeItem.class, "steal_warn_yes"),
-								Messages.get(WndTradeItem.class, "steal_warn_no")){
-							@Override
-							protected void onSelect(int index) {
-								super.onSelect(index);
-								if (index == 0){
-									if (thievery.steal(item)) {
-										Hero hero = Dungeon.hero;
-										Item item = heap.pickUp();
-										WndTradeItem.this.hide();
-
-										if (!item.doPickUp(hero)) {
-											Dungeon.level.drop(item, heap.pos).sprite.drop();
-										}
-									} else {
-										for (Mob mob : Dungeon.level.mobs) {
-											if (mob instanceof Shopkeeper) {
-												mob.yell(Messages.get(mob, "thief"));
-												((Shopkeeper) mob).flee();
-												break;
-											}
-										}
-										WndTradeItem.this.hide();
-									}
-								}
-							}
-						});
-					}
+					InputJournal.chose( WndTradeItem.this, STEAL );
+					choose( STEAL );
 				}
 			};
 			btnSteal.setRect(0, pos + 1, width, BTN_HEIGHT);
@@ -201,6 +175,68 @@ public class WndTradeItem extends WndInfoItem {
 
 		resize(width, (int) pos);
 	}
+
+	@Override
+	public void choose( int index ) {
+		if (selling) {
+			if (index == SELL_ONE) {
+				sellOne( item, shop );
+			} else {
+				sell( item, shop );
+			}
+			hide();
+		} else if (index == STEAL) {
+			steal();
+		} else {
+			hide();
+			buy( heap );
+		}
+	}
+
+	private void steal() {
+		final MasterThievesArmband.Thievery thievery = Dungeon.hero.buff(MasterThievesArmband.Thievery.class);
+		if (thievery.stealChance(item) >= 1){
+			thievery.steal(item);
+			Hero hero = Dungeon.hero;
+			Item item = heap.pickUp();
+			hide();
+
+			if (!item.doPickUp(hero)) {
+				Dungeon.level.drop(item, heap.pos).sprite.drop();
+			}
+		} else {
+			GameScene.show(new WndOptions(new ItemSprite(ItemSpriteSheet.ARTIFACT_ARMBAND),
+					Messages.titleCase(Messages.get(MasterThievesArmband.class, "name")),
+					Messages.get(WndTradeItem.class, "steal_warn"),
+					Messages.get(WndTradeItem.class, "steal_warn_yes"),
+					Messages.get(WndTradeItem.class, "steal_warn_no")){
+				@Override
+				protected void onSelect(int index) {
+					super.onSelect(index);
+					if (index == 0){
+						if (thievery.steal(item)) {
+							Hero hero = Dungeon.hero;
+							Item item = heap.pickUp();
+							WndTradeItem.this.hide();
+
+							if (!item.doPickUp(hero)) {
+								Dungeon.level.drop(item, heap.pos).sprite.drop();
+							}
+						} else {
+							for (Mob mob : Dungeon.level.mobs) {
+								if (mob instanceof Shopkeeper) {
+									mob.yell(Messages.get(mob, "thief"));
+									((Shopkeeper) mob).flee();
+									break;
+								}
+							}
+							WndTradeItem.this.hide();
+						}
+					}
+				}
+			});
+		}
+	}
 	
 	@Override
 	public void hide() {
@@ -36,8 +36,9 @@ import com.shatteredpixel.shatteredpixeldungeon.ui.RedButton;
 import com.shatteredpixel.shatteredpixeldungeon.ui.RenderedTextBlock;
 import com.shatteredpixel.shatteredpixeldungeon.ui.Window;
 import com.shatteredpixel.shatteredpixeldungeon.utils.GLog;
+import com.shatteredpixel.shatteredpixeldungeon.utils.InputJournal;
 
-public class WndWandmaker extends Window {
+public class WndWandmaker extends Window implements InputJournal.Choice {
 
 	private static final int WIDTH		= 120;
 	private static final int BTN_SIZE	= 32;
@@ -77,11 +78,8 @@ public class WndWandmaker extends Window {
 		ItemButton btnWand1 = new ItemButton(){
 			@Override
 			protected void onClick() {
-				if (Dungeon.hero.belongings.contains(questItem) && item() != null) {
-					GameScene.show(new RewardWindow(item()));
-				} else {
-					hide();
-				}
+				InputJournal.chose( WndWandmaker.this, 0 );
+				choose( 0 );
 			}
 		};
 		btnWand1.item(Wandmaker.Quest.wand1);
@@ -91,11 +89,8 @@ public class WndWandmaker extends Window {
 		ItemButton btnWand2 = new ItemButton(){
 			@Override
 			protected void onClick() {
-				if (Dungeon.hero.belongings.contains(questItem) && item() != null) {
-					GameScene.show(new RewardWindow(item()));
-				} else {
-					hide();
-				}
+				InputJournal.chose( WndWandmaker.this, 1 );
+				choose( 1 );
 			}
 		};
 		btnWand2.item(Wandmaker.Quest.wand2);
@@ -104,6 +99,16 @@ public class WndWandmaker extends Window {
 		
 		resize(WIDTH, (int) btnWand2.bottom());
 	}
+
+	@Override
+	public void choose( int index ) {
+		Item wand = index == 0 ? Wandmaker.Quest.wand1 : Wandmaker.Quest.wand2;
+		if (Dungeon.hero.belongings.contains(questItem) && wand != null) {
+			GameScene.show(new RewardWindow(wand));
+		} else {
+			hide();
+		}
+	}
 	
 	private void selectReward( Item reward ) {
 
@@ -130,17 +135,20 @@ public class WndWandmaker extends Window {
 		Wandmaker.Quest.complete();
 	}
 
-	private class RewardWindow extends WndInfoItem {
+	private class RewardWindow extends WndInfoItem implements InputJournal.Choice {
+
+		private Item item;
 
 		public RewardWindow( Item item ) {
 			super(item);
 
+			this.item = item;
+
 			RedButton btnConfirm = new RedButton(Messages.get(WndSadGhost.class, "confirm")){
 				@Override
 				protected void onClick() {
-					RewardWindow.this.hide();
-
-					selectReward( item );
+					InputJournal.chose( RewardWindow.this, 0 );
+					choose( 0 );
 				}
 			};
 			btnConfirm.setRect(0, height+2, width/2-1, 16);
@@ -157,6 +165,13 @@ public class WndWandmaker extends Window {
 
 			resize(width, (int)btnCancel.bottom());
 		}
+
+		@Override
+		public void choose( int index ) {
+			RewardWindow.this.hide();
+
+			selectReward( item );
+		}
 	}
 
 }